@@ -24,6 +24,8 @@ import com.vaadin.flow.component.HasValue;
 import com.vaadin.flow.data.binder.PropertyDefinition;
 import com.vaadin.flow.data.binder.PropertyId;
 import com.vaadin.flow.internal.ReflectTools;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
@@ -40,6 +42,14 @@ public class AutoBinder<BEAN> extends ReflectionBinder<BEAN> {
         super(clazz);
     }
 
+    public AutoBinder(Class<BEAN> clazz, Validator validator) {
+        super(clazz, validator);
+    }
+
+    public AutoBinder(Class<BEAN> clazz, ValidatorFactory validatorFactory) {
+        super(clazz, validatorFactory);
+    }
+
     /**
      * Binds member fields found in the given object.
      * <p>
@@ -132,6 +142,10 @@ public class AutoBinder<BEAN> extends ReflectionBinder<BEAN> {
      * Returns an array containing {@link Field} objects reflecting all the fields
      * of the class or interface represented by this Class object. The elements in
      * the array returned are sorted in declare order from sub class to super class.
+     * <p>
+     * The fields are new copies owned by the caller, not the shared fields of
+     * {@link FieldIndex}, as {@link #bindProperty(Object, Field, String, Class)}
+     * makes non-public fields accessible.
      *
      * @param searchClass class to introspect
      * @return list of all fields in the class considering hierarchy
@@ -164,12 +178,12 @@ public class AutoBinder<BEAN> extends ReflectionBinder<BEAN> {
             propertyName = field.getName();
         }
 
-        if (boundProperties.containsKey(propertyName)) {
+        if (bindings.containsProperty(propertyName)) {
             return false;
         }
 
         Boolean isPropertyBound = propertyHandler.apply(propertyName, descriptor.get().getType());
-        assert boundProperties.containsKey(propertyName);
+        assert bindings.containsProperty(propertyName);
         return isPropertyBound;
     }
 
@@ -188,7 +202,7 @@ public class AutoBinder<BEAN> extends ReflectionBinder<BEAN> {
             propertyId = field.getName();
         }
 
-        return propertySet.getProperty(propertyId);
+        return getPropertySet().getProperty(propertyId);
     }
 
     protected Component createAndBind(Field f, String path) {
@@ -204,10 +218,24 @@ public class AutoBinder<BEAN> extends ReflectionBinder<BEAN> {
         return c.get();
     }
 
+    /**
+     * Creates the component of a property of generated {@link BeanMetadata} and
+     * binds it, see {@link #createAndBind(Field, String)}.
+     *
+     * @param beanClass the class declaring the property
+     * @param property  the property
+     * @param path      the path of the bean class from the bound bean
+     * @return the component
+     */
+    protected Component createAndBind(Class<?> beanClass, BeanMetadata.Property<?, ?> property, String path) {
+        Field field = getDeclaredFieldByName(beanClass, property.getName())
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Could not find field " + property.getName() + " in " + beanClass));
+        return createAndBind(field, path);
+    }
+
     protected <T> void buildAndBind(Class<?> currentClazz, String path, List<Component> components,
                                     String... nestedProperties) {
-        List<Field> fields = getFieldsInDeclareOrder(currentClazz);
-
         Map<String, List<String>> nestedPropertyMap = new HashMap<>();
 
         for (String p : nestedProperties) {
@@ -223,11 +251,31 @@ public class AutoBinder<BEAN> extends ReflectionBinder<BEAN> {
             }
         }
 
+        Optional<? extends BeanMetadata<?>> metadata = BeanMetadata.get(currentClazz);
+        if (metadata.isPresent()) {
+            for (BeanMetadata.Property<?, ?> property : metadata.get().getProperties()) {
+                String name = property.getName();
+                if (bindings.containsProperty(path + name)) {
+                    // property already bound, skip
+                    continue;
+                }
+                if (nestedPropertyMap.containsKey(name)) {
+                    buildAndBind(property.getType(), path + name + ".", components,
+                            nestedPropertyMap.get(name).stream().toArray(String[]::new));
+                } else {
+                    components.add(createAndBind(currentClazz, property, path));
+                }
+            }
+            return;
+        }
+
+        List<Field> fields = getFieldsInDeclareOrder(currentClazz);
+
         for (Field field : fields) {
             if ((field.getModifiers() & Modifier.STATIC) != 0) {
                 continue;
             }
-            if (boundProperties.containsKey(path + field.getName())) {
+            if (bindings.containsProperty(path + field.getName())) {
                 // property already bound, skip
                 continue;
             }
@@ -273,13 +321,30 @@ public class AutoBinder<BEAN> extends ReflectionBinder<BEAN> {
 
     protected <T> void buildAndBind(Class<?> currentClazz, String path, List<Component> components,
                                     Set<Class<?>> nestedClasses) {
+        Optional<? extends BeanMetadata<?>> metadata = BeanMetadata.get(currentClazz);
+        if (metadata.isPresent()) {
+            for (BeanMetadata.Property<?, ?> property : metadata.get().getProperties()) {
+                String name = property.getName();
+                if (bindings.containsProperty(path + name)) {
+                    // property already bound, skip
+                    continue;
+                }
+                if (nestedClasses.contains(property.getType())) {
+                    buildAndBind(property.getType(), path + name + ".", components, nestedClasses);
+                } else {
+                    components.add(createAndBind(currentClazz, property, path));
+                }
+            }
+            return;
+        }
+
         List<Field> fields = getFieldsInDeclareOrder(currentClazz);
 
         for (Field field : fields) {
             if ((field.getModifiers() & Modifier.STATIC) != 0) {
                 continue;
             }
-            if (boundProperties.containsKey(path + field.getName())) {
+            if (bindings.containsProperty(path + field.getName())) {
                 // property already bound, skip
                 continue;
             }
@@ -24,51 +24,179 @@ import com.vaadin.flow.data.binder.*;
 import com.vaadin.flow.data.converter.Converter;
 import com.vaadin.flow.function.SerializableConsumer;
 import com.vaadin.flow.function.ValueProvider;
+import com.vaadin.flow.function.SerializableFunction;
+import com.vaadin.flow.internal.StateTree;
+import com.vaadin.flow.server.Command;
 import com.vaadin.flow.shared.Registration;
 import jakarta.validation.ConstraintViolation;
-import jakarta.validation.Validation;
+import jakarta.validation.Path;
 import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.groups.Default;
 
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 @SuppressWarnings("serial")
 public class BasicBinder<BEAN> {
 
+    // Marks a property value that is not looked up in the constraint result cache
+    private static final Object UNCACHEABLE = new Object();
+    private static final Logger LOG = Logger.getLogger(BasicBinder.class.getName());
+
     protected BEAN bean;
     protected HasText statusLabel;
-    protected List<EasyBinding<BEAN, ?, ?>> bindings = new LinkedList<>();
-    protected Map<String, EasyBinding<BEAN, ?, ?>> propertyToBindingMap = new HashMap<>();
+    protected BindingTable<BEAN> bindings = new BindingTable<>();
     protected Set<ConstraintViolation<BEAN>> constraintViolations;
-    protected boolean hasChanges = false;
-    protected Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+    // Set while setBean loads the field values
+    protected boolean loadingBean = false;
+    protected Validator validator;
     protected Class<?>[] groups = new Class<?>[0];
+    protected boolean incrementalValidation = false;
+    protected boolean failFastValidation = false;
+    protected Validator failFastValidator;
+    protected ConstraintResultCache constraintResultCache;
+    protected ValidationTiming validationTiming = ValidationTiming.IMMEDIATE;
+    protected Set<EasyBinding<BEAN, ?, ?>> pendingValidation = new LinkedHashSet<>();
+    protected boolean statusChangePending = false;
+    protected StateTree.ExecutionRegistration pendingValidationRegistration;
+    protected Executor asyncValidationExecutor;
+    protected SerializableFunction<BEAN, BEAN> beanSnapshot;
+    protected long beanVersion = 0;
+    protected Map<EasyBinding<BEAN, ?, ?>, Long> pendingAsyncValidation = new IdentityHashMap<>();
+    protected Set<EasyBinding<BEAN, ?, ?>> changedValidationErrors = Collections.newSetFromMap(new IdentityHashMap<>());
+    // Nesting depth of batch(Command), changes are collected while positive
+    protected int batchDepth = 0;
+    // Bindings changed in the current batch and their error before the batch
+    protected Map<EasyBinding<BEAN, ?, ?>, Optional<String>> batchChanges = new LinkedHashMap<>();
+    protected Set<EasyBinding<BEAN, ?, ?>> batchValidation = new LinkedHashSet<>();
+    protected HasValue.ValueChangeEvent<?> batchValueChangeEvent;
+    // Number of bound bindings with a conversion error
+    protected int conversionErrorCount = 0;
+    protected StatusChangeMode statusChangeMode = StatusChangeMode.ON_CHANGE;
+    // Error flags of the last status change event, null if none has been fired
+    protected Boolean lastHasConversionErrors;
+    protected Boolean lastHasValidationErrors;
     protected BasicBinderValidationStatusHandler<BEAN> statusHandler;
     protected BasicBinderValidationStatus<BEAN> status;
-    private HashMap<Class<?>, List<SerializableConsumer<?>>> listeners = new HashMap<>();
+    private Map<Class<?>, List<SerializableConsumer<?>>> listeners = new LinkedHashMap<>();
+    // Listeners by concrete event class, built on first dispatch and discarded
+    // whenever a listener is added or removed
+    private Map<Class<?>, SerializableConsumer<?>[]> dispatchTable = new HashMap<>();
 
+    /**
+     * Creates a binder using the validator shared by all binders.
+     *
+     * @see ValidatorProvider#getValidator()
+     */
     public BasicBinder() {
+        this(ValidatorProvider.getValidator());
+    }
+
+    /**
+     * Creates a binder using the given validator.
+     *
+     * @param validator the validator to use for bean validation, not {@code null}
+     */
+    public BasicBinder(Validator validator) {
+        this.validator = Objects.requireNonNull(validator, "Validator cannot be null");
         validate();
     }
 
+    /**
+     * Defines when the bean is validated after a field value change.
+     */
+    public enum ValidationTiming {
+        /**
+         * Validate and fire status change events for every field value change.
+         */
+        IMMEDIATE,
+        /**
+         * Collect the field value changes of a round trip and validate once, right
+         * before the response is sent to the client. Falls back to immediate
+         * validation if no UI is available.
+         */
+        BEFORE_CLIENT_RESPONSE,
+        /**
+         * Run bean validation in the background, without holding the session lock,
+         * and apply the result through {@link UI#access(Command)}. Results that
+         * are outdated by later changes are discarded. Falls back to immediate
+         * validation if no UI is available or no snapshot of the changed values
+         * can be taken.
+         *
+         * @see BasicBinder#setAsyncValidationExecutor(Executor)
+         * @see BasicBinder#setBeanSnapshot(SerializableFunction)
+         */
+        ASYNCHRONOUS
+    }
+
+    /**
+     * Defines when status change events are fired after a field value change.
+     */
+    public enum StatusChangeMode {
+        /**
+         * Fire a status change event only when the conversion or validation error
+         * flags of the binder change.
+         */
+        ON_CHANGE,
+        /**
+         * Fire a status change event for every field value change.
+         */
+        EVERY_CHANGE
+    }
+
+    /**
+     * Creates a binder using a validator from the given factory.
+     *
+     * @param validatorFactory the factory to get the validator from, not {@code null}
+     */
+    public BasicBinder(ValidatorFactory validatorFactory) {
+        this(Objects.requireNonNull(validatorFactory, "Validator factory cannot be null").getValidator());
+    }
+
     public BEAN getBean() {
         return bean;
     }
 
+    /**
+     * Sets the bean to bind the fields to.
+     * <p>
+     * The field values are loaded in bulk: fields that already show the value of
+     * the new bean are not updated, and field value changes are not dispatched
+     * to the binder while loading. The bean is validated once and a single status
+     * change event is fired.
+     *
+     * @param bean the bean, or {@code null} to unbind the fields
+     */
     public void setBean(BEAN bean) {
-        this.bean = null;
+        clearBatch();
+        clearPendingValidation();
+        discardPendingAsyncValidation();
+        this.bean = bean;
 
         if (bean != null) {
-            bindings.forEach(e -> e.beanToField(bean));
+            loadingBean = true;
+            try {
+                bindings.forEach(e -> {
+                    e.beanToField(bean);
+                    e.captureOriginalValue(bean);
+                });
+            } finally {
+                loadingBean = false;
+            }
         }
 
-        this.bean = bean;
         validate();
         fireStatusChangeEvent();
-        hasChanges = false;
+        bindings.clearDirty();
     }
 
     public void removeBean() {
@@ -89,10 +217,524 @@ public class BasicBinder<BEAN> {
         validate();
     }
 
+    /**
+     * Checks whether the bean passes validation. With
+     * {@link ValidationTiming#ASYNCHRONOUS} validation, this is the result of the
+     * last applied validation while a validation is still pending, see
+     * {@link EasyBinding#isValidationPending()}.
+     *
+     * @return {@code true} if there are no constraint violations
+     */
     public boolean isValid() {
+        validateNow();
         return constraintViolations.isEmpty();
     }
 
+    public ValidationTiming getValidationTiming() {
+        return validationTiming;
+    }
+
+    /**
+     * Sets when the bean is validated after a field value change.
+     * <p>
+     * With {@link ValidationTiming#BEFORE_CLIENT_RESPONSE} all value changes of a
+     * round trip result in a single validation pass and a single status change
+     * event. Conversion errors are still reported immediately. Use
+     * {@link #validateNow()} to run pending validation synchronously.
+     *
+     * @param validationTiming the validation timing, not {@code null}
+     */
+    public void setValidationTiming(ValidationTiming validationTiming) {
+        Objects.requireNonNull(validationTiming);
+        if (validationTiming == ValidationTiming.IMMEDIATE) {
+            validateNow();
+        }
+        this.validationTiming = validationTiming;
+    }
+
+    /**
+     * Runs pending validation, if any, and fires the pending status change event.
+     * <p>
+     * Has no effect unless validation has been deferred using
+     * {@link #setValidationTiming(ValidationTiming)}.
+     */
+    public void validateNow() {
+        if (pendingValidationRegistration != null) {
+            pendingValidationRegistration.remove();
+            pendingValidationRegistration = null;
+        }
+        if (!statusChangePending) {
+            return;
+        }
+        List<EasyBinding<BEAN, ?, ?>> pending = new ArrayList<>(pendingValidation);
+        clearPendingValidation();
+
+        if (getBean() != null) {
+            if (pending.size() == 1) {
+                validate(pending.get(0));
+            } else if (!pending.isEmpty()) {
+                validate();
+            }
+        }
+        fireStatusChangeEventIfChanged();
+    }
+
+    /**
+     * Validates the bean reporting all constraint violations, also when
+     * fail-fast validation is enabled, e.g. before the bean is submitted. Pending
+     * deferred and asynchronous validation is superseded.
+     *
+     * @return the validation status
+     * @see #setFailFastValidation(boolean)
+     */
+    public BasicBinderValidationStatus<BEAN> validateAll() {
+        clearPendingValidation();
+        discardPendingAsyncValidation();
+        boolean failFast = failFastValidation;
+        failFastValidation = false;
+        try {
+            validate();
+        } finally {
+            failFastValidation = failFast;
+        }
+        fireStatusChangeEventIfChanged();
+        return getValidationStatus();
+    }
+
+    /**
+     * Applies several field value changes as one transaction.
+     * <p>
+     * The field values are written to the bean as they change, but validation,
+     * field error updates and events are deferred until the outermost batch
+     * completes. The changed bindings are then validated in a single pass, and
+     * at most one status change event and one value change event, for the last
+     * change, are fired. The result is applied immediately regardless of the
+     * {@link ValidationTiming validation timing}.
+     * <p>
+     * The batch is completed also if the changes throw an exception.
+     *
+     * @param changes the changes to apply, not {@code null}
+     */
+    public void batch(Command changes) {
+        Objects.requireNonNull(changes);
+        batchDepth++;
+        try {
+            changes.execute();
+        } finally {
+            if (--batchDepth == 0) {
+                completeBatch();
+            }
+        }
+    }
+
+    public boolean isBatchInProgress() {
+        return batchDepth > 0;
+    }
+
+    protected void completeBatch() {
+        Map<EasyBinding<BEAN, ?, ?>, Optional<String>> changes = new LinkedHashMap<>(batchChanges);
+        List<EasyBinding<BEAN, ?, ?>> pending = new ArrayList<>(batchValidation);
+        HasValue.ValueChangeEvent<?> event = batchValueChangeEvent;
+        clearBatch();
+        changedValidationErrors.clear();
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        if (getBean() != null) {
+            pending.forEach(e -> {
+                pendingValidation.remove(e);
+                if (pendingAsyncValidation.remove(e) != null) {
+                    e.setValidationPending(false);
+                }
+            });
+            if (pending.size() == 1) {
+                validate(pending.get(0));
+            } else if (!pending.isEmpty()) {
+                validate();
+            }
+        }
+        changes.forEach((binding, error) -> {
+            if (!error.equals(binding.getError())
+                    && (statusHandler != null || !changedValidationErrors.contains(binding))) {
+                binding.validate(true);
+            }
+        });
+        fireStatusChangeEventIfChanged();
+        if (event != null) {
+            fireValueChangeEvent(event);
+        }
+    }
+
+    protected void clearBatch() {
+        batchChanges.clear();
+        batchValidation.clear();
+        batchValueChangeEvent = null;
+    }
+
+    protected void discardPendingAsyncValidation() {
+        beanVersion++;
+        pendingAsyncValidation.keySet().forEach(e -> e.setValidationPending(false));
+        pendingAsyncValidation.clear();
+    }
+
+    protected void clearPendingValidation() {
+        pendingValidation.clear();
+        statusChangePending = false;
+        if (pendingValidationRegistration != null) {
+            pendingValidationRegistration.remove();
+            pendingValidationRegistration = null;
+        }
+    }
+
+    /**
+     * Defers validation of the given binding to the end of the current round
+     * trip.
+     *
+     * @param binding the changed binding
+     * @param validate {@code true} if the change needs validation, {@code false}
+     *                 if only the status change event should be fired
+     * @return {@code true} if deferred, {@code false} if no UI is available and
+     * validation has to be done immediately
+     */
+    protected boolean deferValidation(EasyBinding<BEAN, ?, ?> binding, boolean validate) {
+        if (pendingValidationRegistration == null) {
+            Optional<UI> ui = findUI(binding);
+            if (!ui.isPresent()) {
+                return false;
+            }
+            pendingValidationRegistration = ui.get().beforeClientResponse(ui.get(), context -> validateNow());
+        }
+        if (validate) {
+            pendingValidation.add(binding);
+        }
+        statusChangePending = true;
+        return true;
+    }
+
+    /**
+     * Finds the UI of the field of the given binding, or the current UI if the
+     * field is not attached.
+     *
+     * @param binding the binding
+     * @return the UI, or an empty optional if none is available
+     */
+    protected Optional<UI> findUI(EasyBinding<BEAN, ?, ?> binding) {
+        if (binding.getField() instanceof Component) {
+            Optional<UI> ui = ((Component) binding.getField()).getUI();
+            if (ui.isPresent()) {
+                return ui;
+            }
+        }
+        return Optional.ofNullable(UI.getCurrent());
+    }
+
+    /**
+     * Gets the executor used for asynchronous validation.
+     *
+     * @return the executor, never {@code null}
+     * @see ValidationTiming#ASYNCHRONOUS
+     */
+    public Executor getAsyncValidationExecutor() {
+        return asyncValidationExecutor != null ? asyncValidationExecutor : ForkJoinPool.commonPool();
+    }
+
+    /**
+     * Sets the executor used for asynchronous validation. By default the common
+     * {@link ForkJoinPool} is used, which is shared by the whole JVM and has a
+     * bounded number of threads. Validators that block, e.g. on database
+     * queries, should be given a dedicated executor.
+     * <p>
+     * The binder never shuts an executor down. An executor set here is owned by
+     * the application, which shuts it down when it is no longer used, e.g. when
+     * the servlet context is destroyed.
+     *
+     * @param asyncValidationExecutor the executor, or {@code null} for the default
+     */
+    public void setAsyncValidationExecutor(Executor asyncValidationExecutor) {
+        this.asyncValidationExecutor = asyncValidationExecutor;
+    }
+
+    /**
+     * Sets the function used to take a snapshot of the bean for asynchronous full
+     * bean validation. The snapshot is taken while holding the session lock and
+     * validated in the background, so it must not share mutable state with the
+     * bean.
+     * <p>
+     * Without a snapshot function only changes that can be validated property by
+     * property are validated asynchronously, using
+     * {@link Validator#validateValue(Class, String, Object, Class...)} on the
+     * changed value. All other changes are validated immediately.
+     *
+     * @param beanSnapshot function creating an independent copy of the bean, or
+     *                     {@code null}
+     */
+    public void setBeanSnapshot(SerializableFunction<BEAN, BEAN> beanSnapshot) {
+        this.beanSnapshot = beanSnapshot;
+    }
+
+    /**
+     * Starts asynchronous validation of a change of the given binding.
+     *
+     * @param binding the changed binding
+     * @return {@code true} if validation was started, {@code false} if it has to
+     * be done immediately
+     */
+    @SuppressWarnings("unchecked")
+    protected boolean validateAsync(EasyBinding<BEAN, ?, ?> binding) {
+        Optional<UI> ui = findUI(binding);
+        if (!ui.isPresent()) {
+            return false;
+        }
+
+        Class<BEAN> beanClass = (Class<BEAN>) getBean().getClass();
+        Class<?>[] activeGroups = groups.clone();
+        Class<?>[] groupOrder = failFastValidation ? getGroupEvaluationOrder() : null;
+        Validator v = validator;
+        boolean propertyScope = canValidateProperty(binding);
+
+        Supplier<Set<ConstraintViolation<BEAN>>> task;
+        if (propertyScope) {
+            String property = binding.getProperty().get();
+            if (!getConstraintIndex().isConstrained(property)) {
+                return false;
+            }
+            Object value = binding.getGetter().apply(getBean());
+            if (groupOrder != null) {
+                Validator ffv = getFailFastValidator();
+                task = () -> validateFailFast(groupOrder, g -> ffv.validateValue(beanClass, property, value, g));
+            } else {
+                task = () -> v.validateValue(beanClass, property, value, activeGroups);
+            }
+        } else if (beanSnapshot != null) {
+            BEAN snapshot = beanSnapshot.apply(getBean());
+            if (groupOrder != null) {
+                task = () -> validateFailFast(groupOrder, g -> v.validate(snapshot, g));
+            } else {
+                task = () -> v.validate(snapshot, activeGroups);
+            }
+        } else {
+            return false;
+        }
+
+        long version = beanVersion;
+        pendingAsyncValidation.put(binding, version);
+        binding.setValidationPending(true);
+
+        getAsyncValidationExecutor().execute(() -> {
+            Set<ConstraintViolation<BEAN>> result;
+            try {
+                result = task.get();
+            } catch (Throwable e) {
+                // Nothing else sees the failure of the background task
+                accessUI(ui.get(), () -> handleAsyncValidationFailure(binding, version, e));
+                return;
+            }
+            accessUI(ui.get(), () -> applyAsyncValidationResult(binding, version, propertyScope, result));
+        });
+        return true;
+    }
+
+    /**
+     * Handles a failed asynchronous validation by logging the failure and ending
+     * the pending state of the binding, keeping the last applied validation
+     * result. Called while holding the session lock.
+     *
+     * @param binding the binding whose change was validated
+     * @param version the bean version the validation was started for
+     * @param error   the failure
+     */
+    protected void handleAsyncValidationFailure(EasyBinding<BEAN, ?, ?> binding, long version, Throwable error) {
+        LOG.log(Level.WARNING, "Asynchronous validation of property " + binding.getProperty().orElse("") + " failed",
+                error);
+        Long latest = pendingAsyncValidation.get(binding);
+        if (latest != null && latest == version) {
+            pendingAsyncValidation.remove(binding);
+            binding.setValidationPending(false);
+        }
+    }
+
+    /**
+     * Applies the result of an asynchronous validation unless it is stale. Called
+     * while holding the session lock.
+     *
+     * @param binding       the binding whose change was validated
+     * @param version       the bean version the result was computed for
+     * @param propertyScope {@code true} if the result only covers the property of
+     *                      the binding
+     * @param result        the constraint violations
+     */
+    protected void applyAsyncValidationResult(EasyBinding<BEAN, ?, ?> binding, long version, boolean propertyScope,
+                                              Set<ConstraintViolation<BEAN>> result) {
+        Long latest = pendingAsyncValidation.get(binding);
+        if (latest == null || latest != version) {
+            // Outdated by a later change of the same field or by setBean
+            return;
+        }
+        pendingAsyncValidation.remove(binding);
+        binding.setValidationPending(false);
+        if (!propertyScope && version != beanVersion) {
+            // Full bean result outdated by a later change of another field, which
+            // has been or will be validated on its own
+            return;
+        }
+
+        if (propertyScope) {
+            mergePropertyViolations(binding, binding.getProperty().get(), result);
+        } else {
+            applyConstraintViolations(result);
+        }
+        updateValidationStatus();
+        fireStatusChangeEventIfChanged();
+    }
+
+    /**
+     * Runs the given command with the session of the UI locked.
+     *
+     * @param ui      the UI
+     * @param command the command to run
+     */
+    protected void accessUI(UI ui, Command command) {
+        try {
+            ui.access(command);
+        } catch (UIDetachedException e) {
+            // The UI is gone, nobody is interested in the result
+        }
+    }
+
+    public boolean isFailFastValidation() {
+        return failFastValidation;
+    }
+
+    /**
+     * Enables or disables fail-fast validation for interactive editing.
+     * <p>
+     * When enabled, the validation groups are evaluated one at a time, cheapest
+     * first as estimated by {@link BeanConstraintIndex#getEvaluationCost(Class)},
+     * and evaluation stops at the first group with constraint violations. At most
+     * one violation is reported per property path, and property scoped validation
+     * uses the fail-fast validator, which stops at the first violation of the
+     * property. The validity of the bean is the same as without fail-fast
+     * validation. Use {@link #validateAll()} to get all violations, e.g. on
+     * submit.
+     *
+     * @param failFastValidation {@code true} to enable fail-fast validation
+     * @see #setValidationGroups(Class...)
+     * @see #setFailFastValidator(Validator)
+     */
+    public void setFailFastValidation(boolean failFastValidation) {
+        this.failFastValidation = failFastValidation;
+        validate();
+    }
+
+    /**
+     * Gets the validator used for property scoped validation in fail-fast mode.
+     *
+     * @return the fail-fast validator
+     * @see ValidatorProvider#getFailFastValidator()
+     */
+    public Validator getFailFastValidator() {
+        if (failFastValidator == null) {
+            failFastValidator = validator == ValidatorProvider.getValidator() ? ValidatorProvider.getFailFastValidator()
+                    : validator;
+        }
+        return failFastValidator;
+    }
+
+    /**
+     * Sets the validator used for property scoped validation in fail-fast mode.
+     * Defaults to the shared fail-fast validator if this binder uses the shared
+     * validator, and to the validator of this binder otherwise.
+     *
+     * @param failFastValidator the fail-fast validator, not {@code null}
+     */
+    public void setFailFastValidator(Validator failFastValidator) {
+        this.failFastValidator = Objects.requireNonNull(failFastValidator, "Validator cannot be null");
+    }
+
+    /**
+     * Gets the validation groups in the order they are evaluated in fail-fast
+     * mode, cheapest first. Groups of equal cost keep the order they were given
+     * in.
+     *
+     * @return the validation groups, {@link Default} if none have been set
+     */
+    protected Class<?>[] getGroupEvaluationOrder() {
+        Class<?>[] order = groups.length == 0 ? new Class<?>[] {Default.class} : groups.clone();
+        BeanConstraintIndex index = getConstraintIndex();
+        if (index != null && order.length > 1) {
+            Arrays.sort(order, Comparator.comparingInt(index::getEvaluationCost));
+        }
+        return order;
+    }
+
+    /**
+     * Runs the given validation for one group at a time and stops at the first
+     * group with constraint violations, keeping one violation per property path.
+     *
+     * @param groupOrder the groups in evaluation order
+     * @param validation the validation to run for a group
+     * @param <T>        the bean type
+     * @return the constraint violations
+     */
+    protected static <T> Set<ConstraintViolation<T>> validateFailFast(Class<?>[] groupOrder,
+                                                                      Function<Class<?>[], Set<ConstraintViolation<T>>> validation) {
+        for (Class<?> group : groupOrder) {
+            Set<ConstraintViolation<T>> violations = validation.apply(new Class<?>[] {group});
+            if (!violations.isEmpty()) {
+                Map<String, ConstraintViolation<T>> firstPerPath = new HashMap<>();
+                violations.forEach(v -> firstPerPath.putIfAbsent(v.getPropertyPath().toString(), v));
+                return new HashSet<>(firstPerPath.values());
+            }
+        }
+        return new HashSet<>();
+    }
+
+    public Optional<ConstraintResultCache> getConstraintResultCache() {
+        return Optional.ofNullable(constraintResultCache);
+    }
+
+    /**
+     * Sets a cache for the constraint violations of property values, or
+     * {@code null} to disable caching.
+     * <p>
+     * The cache is used for property scoped validation of properties with pure
+     * constraints only, see {@link #setIncrementalValidation(boolean)}. Properties
+     * that class level constraints or a redefined default group sequence may
+     * depend on are always validated. The value returned by the getter of a
+     * binding is used as the property value, so the getter should not transform
+     * the value. Cached violations are reported with the bound bean as root and
+     * leaf bean, like those of uncached validation. A cache may be shared by
+     * several binders.
+     *
+     * @param constraintResultCache the cache, or {@code null}
+     */
+    public void setConstraintResultCache(ConstraintResultCache constraintResultCache) {
+        this.constraintResultCache = constraintResultCache;
+    }
+
+    public boolean isIncrementalValidation() {
+        return incrementalValidation;
+    }
+
+    /**
+     * Enables or disables incremental validation.
+     * <p>
+     * When enabled, a field change only evaluates the constraints of the changed
+     * property using {@link Validator#validateProperty(Object, String, Class...)}
+     * and merges the result into the cached constraint violations. Full bean
+     * validation is still used when the bean class declares class level
+     * constraints or a redefined default group sequence, for cascaded and nested
+     * properties, for bindings not marked with
+     * {@link EasyBinding#setBeanProperty(boolean)} and whenever the bean or the
+     * validation groups change.
+     *
+     * @param incrementalValidation {@code true} to enable incremental validation
+     */
+    public void setIncrementalValidation(boolean incrementalValidation) {
+        this.incrementalValidation = incrementalValidation;
+    }
+
     public <FIELDVALUE, TARGET> EasyBinding<BEAN, FIELDVALUE, FIELDVALUE> bind(HasValue<?, FIELDVALUE> field,
                                                                                ValueProvider<BEAN, FIELDVALUE> getter, Setter<BEAN, FIELDVALUE> setter, String property) {
         return bind(field, getter, setter, property, Converter.identity());
@@ -117,17 +759,16 @@ public class BasicBinder<BEAN> {
          */
 
         bindings.add(binding);
-
-        // Add property to validation error map
-        if (property != null) {
-            propertyToBindingMap.put(property, binding);
-        }
+        status = null;
 
         if (getBean() != null) {
             if (fieldToBean(binding)) {
                 // TODO: should this be fired?
                 // fireValueChangeEvent(e);
             }
+            // Writing the field value when binding is not a change
+            binding.captureOriginalValue(getBean());
+            bindings.setDirty(binding, false);
         } else {
             fireStatusChangeEvent();
         }
@@ -136,15 +777,16 @@ public class BasicBinder<BEAN> {
     }
 
     public void removeAllBindings() {
-        while (!bindings.isEmpty()) {
-            EasyBinding<BEAN, ?, ?> binding = bindings.remove(0);
-            binding.getProperty().ifPresent(e -> propertyToBindingMap.remove(e));
-            binding.unbind();
-        }
+        pendingValidation.clear();
+        clearBatch();
+        pendingAsyncValidation.clear();
+        status = null;
+        conversionErrorCount = 0;
+        bindings.clear().forEach(e -> e.unbind());
     }
 
     public void removeBinding(HasValue<?, ?> field) {
-        bindings.stream().filter(e -> e.getField().equals(field)).findFirst().ifPresent(e -> clearBinding(e));
+        Optional.ofNullable(bindings.get(field)).ifPresent(e -> clearBinding(e));
         validate();
     }
 
@@ -155,15 +797,23 @@ public class BasicBinder<BEAN> {
 
     public void removeBinding(String propertyValue) {
         Objects.requireNonNull(propertyValue);
-        Optional.ofNullable(propertyToBindingMap.get(propertyValue)).ifPresent(e -> removeBinding(e));
+        Optional.ofNullable(bindings.get(propertyValue)).ifPresent(e -> clearBinding(e));
         validate();
     }
 
     protected <FIELDVALUE, TARGET> void clearBinding(EasyBinding<BEAN, FIELDVALUE, TARGET> binding) {
+        status = null;
+        pendingValidation.remove(binding);
+        batchChanges.remove(binding);
+        batchValidation.remove(binding);
+        pendingAsyncValidation.remove(binding);
+        boolean hasConversionError = binding.hasConversionError();
         if (bindings.remove(binding)) {
+            if (hasConversionError) {
+                conversionErrorCount--;
+            }
             binding.unbind();
         }
-        binding.getProperty().ifPresent(e -> propertyToBindingMap.remove(e));
     }
 
     public Stream<HasValue<?, ?>> getFields() {
@@ -172,39 +822,252 @@ public class BasicBinder<BEAN> {
 
     protected void handleConstraintViolations(ConstraintViolation<BEAN> v,
                                               Function<ConstraintViolation<BEAN>, String> f) {
-        String property = v.getPropertyPath().toString();
-        if (property.isEmpty()) {
-            // Bean level validation error
-        } else {
-            // Field validation error
-            Optional.ofNullable(propertyToBindingMap.get(property)).ifPresent(e -> e.setValidationError(f.apply(v)));
+        // Field validation error, bean level validation errors are not routed
+        EasyBinding<BEAN, ?, ?> binding = bindings.route(v.getPropertyPath());
+        if (binding != null) {
+            binding.setValidationError(f.apply(v));
         }
     }
 
     protected void validate() {
-        // Clear all validation errors
-        propertyToBindingMap.values().stream().forEach(e -> e.clearValidationError());
-
-        // Validate and set validation errors
         if (getBean() != null) {
-            constraintViolations = validator.validate(getBean(), groups);
-            constraintViolations.stream().forEach(e -> handleConstraintViolations(e, f -> f.getMessage()));
+            applyConstraintViolations(failFastValidation
+                    ? validateFailFast(getGroupEvaluationOrder(), g -> validator.validate(getBean(), g))
+                    : validator.validate(getBean(), groups));
         } else {
-            constraintViolations = new HashSet<ConstraintViolation<BEAN>>();
+            applyConstraintViolations(new HashSet<ConstraintViolation<BEAN>>());
         }
 
-        List<BindingValidationStatus<?>> binRes =
-                getBindings().stream().map(e -> e.validate(false)).collect(Collectors.toList());
+        updateValidationStatus();
+    }
 
-        List<ValidationResult> valRes =
-                constraintViolations.stream()
-                        .filter(e -> e.getPropertyPath().toString().isEmpty())
-                        .map(e -> ValidationResult.error(e.getMessage()))
-                        .collect(Collectors.toList());
+    /**
+     * Replaces the cached constraint violations and updates the validation errors
+     * of the bindings. Bindings whose validation error message changed are
+     * recorded in {@link #changedValidationErrors}.
+     *
+     * @param violations the constraint violations of the whole bean
+     */
+    protected void applyConstraintViolations(Set<ConstraintViolation<BEAN>> violations) {
+        changedValidationErrors.clear();
+
+        // Previous validation errors by binding slot
+        String[] previous = new String[bindings.getSlotCount()];
+        bindings.forEach(e -> {
+            previous[e.slot] = e.validationError;
+            e.clearValidationError();
+        });
+
+        constraintViolations = violations;
+        constraintViolations.forEach(e -> handleConstraintViolations(e, f -> f.getMessage()));
+
+        bindings.forEach(e -> {
+            if (!Objects.equals(previous[e.slot], e.validationError)) {
+                changedValidationErrors.add(e);
+            }
+        });
+    }
 
-        status = new BasicBinderValidationStatus<BEAN>(this, binRes, valRes);
+    /**
+     * Validates the bean after the value of the given binding has been written to
+     * it.
+     * <p>
+     * If incremental validation is enabled and the outcome cannot depend on other
+     * properties, only the constraints of the bound property are evaluated.
+     * Otherwise the whole bean is validated.
+     *
+     * @param binding the binding whose property has changed
+     * @see #setIncrementalValidation(boolean)
+     */
+    protected void validate(EasyBinding<BEAN, ?, ?> binding) {
+        if (!canValidateIncrementally(binding)) {
+            validate();
+            return;
+        }
+
+        String property = binding.getProperty().get();
+        Object value = constraintResultCache != null
+                && constraintResultCache.isCacheable(validator, getBean().getClass(), property)
+                ? binding.getGetter().apply(getBean())
+                : UNCACHEABLE;
+        Set<ConstraintViolation<BEAN>> propertyViolations;
+        if (!getConstraintIndex().isConstrained(property)) {
+            propertyViolations = Collections.emptySet();
+        } else if (ConstraintResultCache.isCacheableValue(value)) {
+            propertyViolations = validateCachedValue(property, value);
+        } else if (failFastValidation) {
+            Validator v = getFailFastValidator();
+            propertyViolations = validateFailFast(getGroupEvaluationOrder(),
+                    g -> v.validateProperty(getBean(), property, g));
+        } else {
+            propertyViolations = validator.validateProperty(getBean(), property, groups);
+        }
+        mergePropertyViolations(binding, property, propertyViolations);
+
+        updateValidationStatus();
+    }
+
+    /**
+     * Validates a property value using the constraint result cache.
+     *
+     * @param property the property
+     * @param value    the property value
+     * @return the constraint violations of the value, with the bean as root and
+     * leaf bean
+     */
+    @SuppressWarnings("unchecked")
+    protected Set<ConstraintViolation<BEAN>> validateCachedValue(String property, Object value) {
+        Class<BEAN> beanClass = (Class<BEAN>) getBean().getClass();
+        Class<?>[] activeGroups = failFastValidation ? getGroupEvaluationOrder() : groups;
+        // Keyed by the validator of the binder, the fail-fast validator is derived from it
+        Set<ConstraintViolation<BEAN>> violations = constraintResultCache.get(validator, beanClass, property, value,
+                activeGroups, failFastValidation);
+        if (violations == null) {
+            if (failFastValidation) {
+                Validator v = getFailFastValidator();
+                violations = validateFailFast(activeGroups, g -> v.validateValue(beanClass, property, value, g));
+            } else {
+                violations = validator.validateValue(beanClass, property, value, groups);
+            }
+            constraintResultCache.put(validator, beanClass, property, value, activeGroups, failFastValidation,
+                    violations);
+        }
+        return ConstraintResultCache.withBean(violations, getBean());
+    }
+
+    /**
+     * Replaces the cached constraint violations of a property with the given ones.
+     *
+     * @param binding            the binding of the property
+     * @param property           the property
+     * @param propertyViolations the new violations of the property
+     */
+    protected void mergePropertyViolations(EasyBinding<BEAN, ?, ?> binding, String property,
+                                           Set<ConstraintViolation<BEAN>> propertyViolations) {
+        Set<ConstraintViolation<BEAN>> violations = new HashSet<>();
+        for (ConstraintViolation<BEAN> v : constraintViolations) {
+            if (!isViolationOfProperty(v, property)) {
+                violations.add(v);
+            }
+        }
+
+        changedValidationErrors.clear();
+        String previous = binding.validationError;
+        binding.clearValidationError();
+        propertyViolations.forEach(e -> handleConstraintViolations(e, f -> f.getMessage()));
+        violations.addAll(propertyViolations);
+        constraintViolations = violations;
+        if (!Objects.equals(previous, binding.validationError)) {
+            changedValidationErrors.add(binding);
+        }
+    }
+
+    /**
+     * Checks whether a change of the given binding can be validated by evaluating
+     * the constraints of its property only.
+     *
+     * @param binding the binding whose property has changed
+     * @return {@code true} if property scoped validation gives the same result as
+     * full bean validation
+     */
+    protected boolean canValidateIncrementally(EasyBinding<BEAN, ?, ?> binding) {
+        return incrementalValidation && canValidateProperty(binding);
+    }
+
+    /**
+     * Checks whether validating the property of the given binding gives the same
+     * result as validating the whole bean, i.e. whether no other property can
+     * influence the validation of the property.
+     *
+     * @param binding the binding whose property has changed
+     * @return {@code true} if the property can be validated on its own
+     */
+    protected boolean canValidateProperty(EasyBinding<BEAN, ?, ?> binding) {
+        if (getBean() == null || constraintViolations == null) {
+            return false;
+        }
+        Optional<String> property = binding.getProperty();
+        if (!binding.isBeanProperty() || !property.isPresent() || property.get().contains(".")) {
+            return false;
+        }
+        BeanConstraintIndex index = getConstraintIndex();
+        return !index.dependsOnAllProperties() && !index.isCascaded(property.get());
+    }
+
+    /**
+     * Checks whether a change of the property of the given binding may change the
+     * validation result. Bindings not marked as bean properties are always
+     * considered relevant, as their setter may write any property.
+     *
+     * @param binding the binding whose property has changed
+     * @return {@code false} if validation of the change can be skipped
+     * @see EasyBinding#setBeanProperty(boolean)
+     */
+    protected boolean isValidationRelevant(EasyBinding<BEAN, ?, ?> binding) {
+        Optional<String> property = binding.getProperty();
+        BeanConstraintIndex index = getConstraintIndex();
+        return !binding.isBeanProperty() || !property.isPresent() || index == null
+                || index.isRelevant(property.get());
+    }
+
+    /**
+     * Gets the type of the bean being validated.
+     *
+     * @return the bean type, or {@code null} if it is not known
+     */
+    protected Class<?> getBeanClass() {
+        return getBean() != null ? getBean().getClass() : null;
+    }
+
+    /**
+     * Gets the constraint index of the bean type of this binder.
+     *
+     * @return the constraint index, or {@code null} if the bean type is not known
+     * @see BeanConstraintIndex#get(Validator, Class)
+     */
+    public BeanConstraintIndex getConstraintIndex() {
+        Class<?> beanClass = getBeanClass();
+        return beanClass != null ? BeanConstraintIndex.get(validator, beanClass) : null;
+    }
+
+    private static boolean isViolationOfProperty(ConstraintViolation<?> violation, String property) {
+        Iterator<Path.Node> nodes = violation.getPropertyPath().iterator();
+        return nodes.hasNext() && property.equals(nodes.next().getName());
+    }
+
+    /**
+     * Invalidates the binder validation status and passes the new status to the
+     * validation status handler. The status is only built if a status handler has
+     * been set, the default handling works on the binding state directly.
+     */
+    protected void updateValidationStatus() {
+        status = null;
+        if (statusHandler != null) {
+            statusHandler.statusChange(createValidationStatus());
+        } else {
+            handleValidationStatusChange();
+        }
+    }
+
+    /**
+     * Builds the binder validation status from the current binding state and
+     * constraint violations.
+     *
+     * @return the validation status
+     */
+    protected BasicBinderValidationStatus<BEAN> createValidationStatus() {
+        List<BindingValidationStatus<?>> binRes = new ArrayList<>(bindings.size());
+        bindings.forEach(e -> binRes.add(e.validate(false)));
+
+        List<ValidationResult> valRes = new ArrayList<>();
+        constraintViolations.forEach(e -> {
+            if (PropertyPathRouter.isBeanPath(e.getPropertyPath())) {
+                valRes.add(ValidationResult.error(e.getMessage()));
+            }
+        });
 
-        getValidationStatusHandler().statusChange(status);
+        status = new BasicBinderValidationStatus<BEAN>(this, binRes, valRes);
+        return status;
     }
 
     /**
@@ -222,7 +1085,7 @@ public class BasicBinder<BEAN> {
     }
 
     public Optional<HasValue<?, ?>> getFieldForProperty(String propertyName) {
-        return Optional.ofNullable(propertyToBindingMap.get(propertyName)).map(e -> e.getField());
+        return Optional.ofNullable(bindings.get(propertyName)).map(e -> e.getField());
     }
 
     /**
@@ -253,9 +1116,36 @@ public class BasicBinder<BEAN> {
      * @return a registration for the listener
      */
     private <T> Registration addListener(Class<?> eventType, SerializableConsumer<T> method) {
-            List<SerializableConsumer<?>> list = listeners
-                    .computeIfAbsent(eventType, key -> new ArrayList<>());
-            return Registration.addAndRemove(list, method);
+        listeners.computeIfAbsent(eventType, key -> new ArrayList<>()).add(method);
+        dispatchTable.clear();
+        return () -> {
+            List<SerializableConsumer<?>> list = listeners.get(eventType);
+            if (list != null && list.remove(method)) {
+                dispatchTable.clear();
+            }
+        };
+    }
+
+    /**
+     * Gets the listeners of an event class, in registration order of their
+     * event type and then of the listeners.
+     *
+     * @param eventClass the concrete class of the event
+     * @return the listeners, never modified after being returned
+     */
+    private SerializableConsumer<?>[] getDispatchTargets(Class<?> eventClass) {
+        SerializableConsumer<?>[] targets = dispatchTable.get(eventClass);
+        if (targets == null) {
+            List<SerializableConsumer<?>> list = new ArrayList<>();
+            listeners.forEach((type, consumers) -> {
+                if (type.isAssignableFrom(eventClass)) {
+                    list.addAll(consumers);
+                }
+            });
+            targets = list.toArray(new SerializableConsumer<?>[0]);
+            dispatchTable.put(eventClass, targets);
+        }
+        return targets;
     }
 
     /**
@@ -278,67 +1168,259 @@ public class BasicBinder<BEAN> {
         return addListener(BinderStatusChangeEvent.class, listener::statusChange);
     }
 
+    /**
+     * Checks whether any bound property differs from the value it had when the
+     * bean was set.
+     *
+     * @return {@code true} if there are changes
+     * @see #getDirtyProperties()
+     */
     public boolean getHasChanges() {
-        return hasChanges;
+        return bindings.hasDirty();
+    }
+
+    /**
+     * Checks whether the value of a bound property differs from the value it had
+     * when the bean was set. Values are compared using {@code equals}.
+     *
+     * @param property the property
+     * @return {@code true} if the property has been changed
+     */
+    public boolean isDirty(String property) {
+        Objects.requireNonNull(property);
+        EasyBinding<BEAN, ?, ?> binding = bindings.get(property);
+        return binding != null && bindings.isDirty(binding);
+    }
+
+    /**
+     * Gets the bound properties whose value differs from the value they had when
+     * the bean was set, in binding order.
+     *
+     * @return the changed properties
+     */
+    public List<String> getDirtyProperties() {
+        List<String> properties = new ArrayList<>();
+        bindings.getDirty().forEach(e -> e.getProperty().ifPresent(properties::add));
+        return properties;
+    }
+
+    /**
+     * Reverts a bound property to the value it had when the bean was set and
+     * updates the field. Does nothing if no bean is set.
+     *
+     * @param property the property
+     * @throws IllegalArgumentException if the property is not bound
+     */
+    public void revertProperty(String property) {
+        Objects.requireNonNull(property);
+        EasyBinding<BEAN, ?, ?> binding = bindings.get(property);
+        if (binding == null) {
+            throw new IllegalArgumentException("Property " + property + " is not bound");
+        }
+        if (getBean() == null) {
+            return;
+        }
+
+        Optional<String> currentError = binding.getError();
+        changedValidationErrors.clear();
+        pendingValidation.remove(binding);
+        if (pendingAsyncValidation.remove(binding) != null) {
+            binding.setValidationPending(false);
+        }
+        status = null;
+
+        binding.revert(getBean());
+        loadingBean = true;
+        try {
+            binding.beanToField(getBean());
+        } finally {
+            loadingBean = false;
+        }
+        bindings.setDirty(binding, false);
+
+        if (isValidationRelevant(binding)) {
+            beanVersion++;
+            validate(binding);
+        }
+        if (!currentError.equals(binding.getError())
+                && (statusHandler != null || !changedValidationErrors.contains(binding))) {
+            binding.validate(true);
+        }
+        fireStatusChangeEventIfChanged();
+    }
+
+    /**
+     * Writes the bound properties of the bean to the given bean, e.g. when an
+     * editor saves the bean it edits a copy of.
+     * <p>
+     * The fields are not reloaded and the bean is not validated again, use
+     * {@link #isValid()} before committing. The current values become the
+     * original values for dirty tracking and a single status change event is
+     * fired. Does nothing if no bean is set.
+     *
+     * @param target the bean to write to, not {@code null}
+     */
+    public void commit(BEAN target) {
+        Objects.requireNonNull(target);
+        BEAN source = getBean();
+        if (source == null) {
+            return;
+        }
+        copyProperties(source, target);
+        bindings.forEach(e -> e.captureOriginalValue(source));
+        bindings.clearDirty();
+        fireStatusChangeEvent();
+    }
+
+    /**
+     * Copies the bound properties from one bean to another, skipping read only
+     * bindings.
+     *
+     * @param source the bean to read from
+     * @param target the bean to write to
+     */
+    protected void copyProperties(BEAN source, BEAN target) {
+        bindings.forEach(e -> e.copy(source, target));
     }
 
     protected <V> void fireValueChangeEvent(HasValue.ValueChangeEvent<V> event) {
-        hasChanges = true;
+        if (batchDepth > 0) {
+            batchValueChangeEvent = event;
+            return;
+        }
         fireEvent(event);
     }
 
     @SuppressWarnings({"rawtypes", "unchecked"})
     private void fireEvent(Object event) {
-        new HashMap<>(listeners).entrySet().stream().filter(
-                        entry -> entry.getKey().isAssignableFrom(event.getClass()))
-                .forEach(entry -> {
-                    for (Consumer consumer : new ArrayList<>(
-                            entry.getValue())) {
-                        consumer.accept(event);
-                    }
-                });
+        // Dispatch arrays are never modified, so listeners may be added or removed
+        // during dispatch
+        for (Consumer consumer : getDispatchTargets(event.getClass())) {
+            consumer.accept(event);
+        }
     }
 
     protected void fireStatusChangeEvent() {
-        boolean hasConversionErrors = bindings.stream().anyMatch(e -> e.hasConversionError());
-        fireEvent(new BinderStatusChangeEvent(this, hasConversionErrors, !constraintViolations.isEmpty()));
+        boolean hasConversionErrors = conversionErrorCount > 0;
+        boolean hasValidationErrors = !constraintViolations.isEmpty();
+        lastHasConversionErrors = hasConversionErrors;
+        lastHasValidationErrors = hasValidationErrors;
+        fireEvent(new BinderStatusChangeEvent(this, hasConversionErrors, hasValidationErrors));
+    }
+
+    /**
+     * Fires a status change event if the conversion or validation error flags of
+     * the binder have changed since the last status change event, or always if
+     * the status change mode is {@link StatusChangeMode#EVERY_CHANGE}.
+     */
+    protected void fireStatusChangeEventIfChanged() {
+        if (statusChangeMode == StatusChangeMode.EVERY_CHANGE || lastHasConversionErrors == null
+                || lastHasConversionErrors != conversionErrorCount > 0
+                || lastHasValidationErrors != !constraintViolations.isEmpty()) {
+            fireStatusChangeEvent();
+        }
+    }
+
+    public StatusChangeMode getStatusChangeMode() {
+        return statusChangeMode;
+    }
+
+    /**
+     * Sets when status change events are fired after a field value change. The
+     * default is {@link StatusChangeMode#ON_CHANGE}.
+     *
+     * @param statusChangeMode the status change mode, not {@code null}
+     */
+    public void setStatusChangeMode(StatusChangeMode statusChangeMode) {
+        this.statusChangeMode = Objects.requireNonNull(statusChangeMode);
+    }
+
+    /**
+     * Gets the number of bindings with a conversion error.
+     *
+     * @return the number of conversion errors
+     */
+    public int getConversionErrorCount() {
+        return conversionErrorCount;
+    }
+
+    /**
+     * Gets the number of constraint violations of the bean.
+     *
+     * @return the number of validation errors
+     */
+    public int getValidationErrorCount() {
+        return constraintViolations.size();
     }
 
     public Optional<EasyBinding<BEAN, ?, ?>> getBinding(String propertyName) {
         Objects.requireNonNull(propertyName);
-        return Optional.ofNullable(propertyToBindingMap.get(propertyName));
+        return Optional.ofNullable(bindings.get(propertyName));
     }
 
     public void setReadonly(boolean readOnly) {
-        bindings.stream().forEach(e -> e.setReadOnly(readOnly));
+        bindings.forEach(e -> e.setReadOnly(readOnly));
     }
 
     protected boolean fieldToBean(EasyBinding<BEAN, ?, ?> binding) {
         Optional<String> currentError = binding.getError();
+        status = null;
+        // Only bindings notified by this change, not by an earlier validation
+        changedValidationErrors.clear();
 
         binding.read(getBean());
         if (!binding.hasConversionError()) {
-            Optional<String> currentValidationError = binding.getValidationError();
-            validate();
-            if (!currentValidationError.equals(binding.getValidationError())) {
-                // TODO: only fire if global change
-                fireStatusChangeEvent();
+            bindings.setDirty(binding, binding.isChanged(getBean()));
+        }
+        boolean needsValidation = !binding.hasConversionError() && isValidationRelevant(binding);
+        if (needsValidation) {
+            beanVersion++;
+        }
+
+        if (batchDepth > 0) {
+            batchChanges.putIfAbsent(binding, currentError);
+            if (needsValidation) {
+                batchValidation.add(binding);
+            }
+            return !binding.hasConversionError();
+        }
+
+        if (validationTiming == ValidationTiming.BEFORE_CLIENT_RESPONSE && deferValidation(binding, needsValidation)) {
+            if (!currentError.equals(binding.getError())) {
+                binding.validate(true);
             }
+            return !binding.hasConversionError();
         }
 
-        if (!currentError.equals(binding.getError())) {
+        if (validationTiming == ValidationTiming.ASYNCHRONOUS && needsValidation && validateAsync(binding)) {
+            if (!currentError.equals(binding.getError())) {
+                binding.validate(true);
+            }
+            fireStatusChangeEventIfChanged();
+            return true;
+        }
+
+        if (needsValidation) {
+            validate(binding);
+        }
+
+        // The default status handler has already notified bindings with changed
+        // validation errors
+        if (!currentError.equals(binding.getError())
+                && (statusHandler != null || !changedValidationErrors.contains(binding))) {
             binding.validate(true);
         }
-        fireStatusChangeEvent();
+        fireStatusChangeEventIfChanged();
 
         return !binding.hasConversionError();
     }
 
     public List<EasyBinding<BEAN, ?, ?>> getBindings() {
-        return Collections.unmodifiableList(bindings);
+        return Collections.unmodifiableList(bindings.asList());
     }
 
     public Set<ConstraintViolation<BEAN>> getConstraintViolations() {
+        validateNow();
         return constraintViolations;
     }
 
@@ -379,7 +1461,8 @@ public class BasicBinder<BEAN> {
     /**
      * The default binder level status handler.
      * <p>
-     * Passes all field related results to the Binding status handlers. All
+     * Passes the field related results whose validation error changed to the
+     * Binding status handlers. All
      * other status changes are displayed in the status label, if one has been
      * set with {@link #setStatusLabel(Label)}.
      *
@@ -387,8 +1470,8 @@ public class BasicBinder<BEAN> {
      *                     validators
      */
     protected void handleBinderValidationStatus(BasicBinderValidationStatus<BEAN> binderStatus) {
-        // let field events go to binding status handlers
-        binderStatus.notifyBindingValidationStatusHandlers();
+        // let field events go to the status handlers of bindings with changed errors
+        binderStatus.notifyBindingValidationStatusHandlers(e -> changedValidationErrors.contains(e.getBinding()));
 
         // show first possible error or OK status in the label if set
         if (getStatusLabel().isPresent()) {
@@ -398,11 +1481,37 @@ public class BasicBinder<BEAN> {
         }
     }
 
+    /**
+     * The default binder level status handling, equivalent to
+     * {@link #handleBinderValidationStatus(BasicBinderValidationStatus)} without
+     * building the validation status.
+     */
+    protected void handleValidationStatusChange() {
+        // let field events go to the status handlers of bindings with changed errors
+        changedValidationErrors.forEach(e -> e.validate(true));
+
+        // show first possible error or OK status in the label if set
+        if (getStatusLabel().isPresent()) {
+            String statusMessage = constraintViolations.stream()
+                    .filter(e -> PropertyPathRouter.isBeanPath(e.getPropertyPath())).findFirst()
+                    .map(ConstraintViolation::getMessage).orElse("");
+            getStatusLabel().get().setText(statusMessage);
+        }
+    }
+
+    /**
+     * Gets the current validation status, building it if it has changed since the
+     * last call.
+     *
+     * @return the validation status
+     */
     public BasicBinderValidationStatus<BEAN> getValidationStatus() {
-        return status;
+        validateNow();
+        return status != null ? status : createValidationStatus();
     }
 
     public static class EasyBinding<BEAN, FIELDVALUE, TARGET> implements Binder.Binding<BEAN, TARGET> {
+        protected final BasicBinder<BEAN> binder;
         protected final HasValue<?, FIELDVALUE> field;
         protected final ValueProvider<BEAN, TARGET> getter;
         protected final Setter<BEAN, TARGET> setter;
@@ -412,7 +1521,15 @@ public class BasicBinder<BEAN> {
         protected Registration registration;
 
         protected String conversionError = null;
+        // Cached value context, its locale and the UI of the field if attached
+        protected ValueContext valueContext;
+        protected Locale valueContextLocale;
+        protected UI attachedUI;
         protected String validationError = null;
+        // Model value when the bean was set, used for dirty tracking
+        protected TARGET originalValue;
+        // Slot in the binding table of the binder, -1 if not bound
+        protected int slot = -1;
 
         protected BindingValidationStatusHandler statusHandler = s -> {
             HasValue<?, ?> field = s.getField();
@@ -428,12 +1545,15 @@ public class BasicBinder<BEAN> {
             }
         };
         private boolean asRequiredSet;
+        private boolean validationPending;
         private boolean validatorsDisabled;
+        private boolean beanProperty;
         private boolean convertBackToPresentation = true;
 
         public EasyBinding(BasicBinder<BEAN> binder, HasValue<?, FIELDVALUE> field, ValueProvider<BEAN, TARGET> getter,
                            Setter<BEAN, TARGET> setter, String property,
                            Converter<FIELDVALUE, TARGET> converterValidatorChain) {
+            this.binder = binder;
             this.field = field;
             this.getter = getter;
             this.setter = setter;
@@ -441,20 +1561,91 @@ public class BasicBinder<BEAN> {
             this.converterValidatorChain = converterValidatorChain;
 
             registration = field.addValueChangeListener(e -> {
-                if (binder.getBean() != null) {
+                if (binder.getBean() != null && !binder.loadingBean) {
                     if (binder.fieldToBean(this)) {
                         binder.fireValueChangeEvent(e);
                     }
                 }
             });
 
+            // Track the UI of the field instead of looking it up for every conversion
+            if (field instanceof Component) {
+                Component component = (Component) field;
+                attachedUI = component.getUI().orElse(null);
+                Registration attachRegistration = component.addAttachListener(e -> {
+                    attachedUI = e.getUI();
+                    valueContext = null;
+                });
+                Registration detachRegistration = component.addDetachListener(e -> {
+                    attachedUI = null;
+                    valueContext = null;
+                });
+                registration = Registration.combine(Stream.of(registration, attachRegistration, detachRegistration)
+                        .filter(Objects::nonNull).toArray(Registration[]::new));
+            }
+
             if (setter == null) {
                 field.setReadOnly(true);
             }
         }
 
+        /**
+         * Records the current model value of the bean as the original value of the
+         * binding.
+         *
+         * @param bean the bean
+         */
+        public void captureOriginalValue(BEAN bean) {
+            originalValue = getter.apply(bean);
+        }
+
+        /**
+         * Checks whether the model value of the bean differs from the original value.
+         *
+         * @param bean the bean
+         * @return {@code true} if the value has been changed
+         */
+        public boolean isChanged(BEAN bean) {
+            return !Objects.equals(getter.apply(bean), originalValue);
+        }
+
+        /**
+         * Writes the original value back to the bean, unless the binding is read
+         * only.
+         *
+         * @param bean the bean
+         */
+        public void revert(BEAN bean) {
+            if (setter != null) {
+                setter.accept(bean, originalValue);
+            }
+        }
+
+        /**
+         * Copies the model value from one bean to another, unless the binding is
+         * read only.
+         *
+         * @param source the bean to read the value from
+         * @param target the bean to write the value to
+         */
+        public void copy(BEAN source, BEAN target) {
+            if (setter != null) {
+                setter.accept(target, getter.apply(source));
+            }
+        }
+
+        /**
+         * Loads the value of the bean into the field. The field is not updated if it
+         * already shows the value.
+         *
+         * @param bean the bean
+         */
         public void beanToField(BEAN bean) {
-            field.setValue(converterValidatorChain.convertToPresentation(getter.apply(bean), createValueContext()));
+            FIELDVALUE value = converterValidatorChain.convertToPresentation(getter.apply(bean), getValueContext());
+            clearConversionError();
+            if (!Objects.equals(value, field.getValue())) {
+                field.setValue(value);
+            }
         }
 
         @Override
@@ -463,7 +1654,24 @@ public class BasicBinder<BEAN> {
         }
 
         /**
-         * Creates a value context from the current state of the binding and its field.
+         * Gets the value context used for conversions. The context is cached and
+         * recreated when the field is attached or detached or the locale found by
+         * {@link #findLocale()} changes.
+         *
+         * @return the value context
+         */
+        protected ValueContext getValueContext() {
+            Locale locale = findLocale();
+            if (valueContext == null || !locale.equals(valueContextLocale)) {
+                valueContext = createValueContext();
+                valueContextLocale = locale;
+            }
+            return valueContext;
+        }
+
+        /**
+         * Creates a value context. For component fields the locale is resolved by
+         * {@link ValueContext} itself.
          *
          * @return the value context
          */
@@ -475,22 +1683,17 @@ public class BasicBinder<BEAN> {
         }
 
         /**
-         * Finds an appropriate locale to be used in conversion and validation.
+         * Finds an appropriate locale to be used in conversion and validation: the
+         * locale of the UI of the field, or of the current UI if the field is not
+         * attached, or the default locale. A change of the found locale recreates
+         * the cached value context.
          *
          * @return the found locale, not null
          */
         protected Locale findLocale() {
-            Locale l = null;
-            if (field instanceof Component && ((Component) field).getUI().isPresent()) {
-                l = ((Component) field).getUI().get().getLocale();
-            }
-            if (l == null && UI.getCurrent() != null) {
-                l = UI.getCurrent().getLocale();
-            }
-            if (l == null) {
-                l = Locale.getDefault();
-            }
-            return l;
+            UI ui = attachedUI != null ? attachedUI : UI.getCurrent();
+            Locale l = ui != null ? ui.getLocale() : null;
+            return l != null ? l : Locale.getDefault();
         }
 
         public Optional<String> getProperty() {
@@ -516,10 +1719,16 @@ public class BasicBinder<BEAN> {
 
         protected void setConversionError(String errorMessage) {
             Objects.requireNonNull(errorMessage);
+            if (conversionError == null && binder.bindings.contains(this)) {
+                binder.conversionErrorCount++;
+            }
             conversionError = errorMessage;
         }
 
         protected void clearConversionError() {
+            if (conversionError != null && binder.bindings.contains(this)) {
+                binder.conversionErrorCount--;
+            }
             conversionError = null;
         }
 
@@ -536,6 +1745,33 @@ public class BasicBinder<BEAN> {
             validationError = errorMessage;
         }
 
+        /**
+         * Gets whether asynchronous validation of the current field value is still
+         * running.
+         *
+         * @return {@code true} if validation is pending
+         */
+        public boolean isValidationPending() {
+            return validationPending;
+        }
+
+        /**
+         * Sets the pending validation state. For components this is shown on the
+         * client using the {@code aria-busy} attribute.
+         *
+         * @param validationPending {@code true} if validation is pending
+         */
+        protected void setValidationPending(boolean validationPending) {
+            this.validationPending = validationPending;
+            if (field instanceof Component) {
+                if (validationPending) {
+                    ((Component) field).getElement().setAttribute("aria-busy", "true");
+                } else {
+                    ((Component) field).getElement().removeAttribute("aria-busy");
+                }
+            }
+        }
+
         public Optional<String> getError() {
             if (conversionError != null) {
                 return Optional.of(conversionError);
@@ -582,7 +1818,7 @@ public class BasicBinder<BEAN> {
             if (setter == null || field.isReadOnly()) {
                 return;
             }
-            Result<TARGET> result = converterValidatorChain.convertToModel(field.getValue(), createValueContext());
+            Result<TARGET> result = converterValidatorChain.convertToModel(field.getValue(), getValueContext());
             result.ifError(e -> setConversionError(e));
             result.ifOk(e -> {
                 clearConversionError();
@@ -639,5 +1875,23 @@ public class BasicBinder<BEAN> {
             field.setReadOnly(setter == null || readOnly);
         }
 
+        public boolean isBeanProperty() {
+            return beanProperty;
+        }
+
+        /**
+         * Marks the property of this binding as a property of the bean, i.e. the
+         * setter only writes the bean property named by {@link #getProperty()}. The
+         * binder may then skip validation of changes that cannot affect the
+         * constraints of the bean, or only validate the property. Otherwise any
+         * change is validated against the whole bean, as the setter may write other
+         * properties. Bindings of {@link ReflectionBinder} are marked.
+         *
+         * @param beanProperty {@code true} if the property is a bean property
+         */
+        public void setBeanProperty(boolean beanProperty) {
+            this.beanProperty = beanProperty;
+        }
+
     }
 }
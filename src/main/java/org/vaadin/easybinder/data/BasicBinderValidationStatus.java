@@ -24,6 +24,8 @@ import com.vaadin.flow.data.binder.ValidationResult;
 import com.vaadin.flow.function.SerializablePredicate;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -32,7 +34,12 @@ import java.util.stream.Collectors;
 
 /**
  * Binder validation status change. Represents the outcome of binder level
- * validation. Use
+ * validation.
+ * <p>
+ * The status is an immutable snapshot. The validation results are copied and
+ * the error counts are computed on construction. The error lists are built on
+ * first access and shared by all callers, so they cannot be modified; copy them
+ * to sort or extend them. Use
  * {@link BasicBinder#setValidationStatusHandler(BinderValidationStatusHandler)}
  * to handle form level validation status changes.
  *
@@ -48,6 +55,12 @@ public class BasicBinderValidationStatus<BEAN> implements Serializable {
     private final transient BasicBinder<BEAN> binder;
     private final List<BindingValidationStatus<?>> bindingStatuses;
     private final List<ValidationResult> binderStatuses;
+    // Indexes of the binding statuses with errors
+    private final BitSet fieldErrors = new BitSet();
+    private final int beanErrorCount;
+    private List<BindingValidationStatus<?>> fieldValidationErrors;
+    private List<ValidationResult> beanValidationErrors;
+    private List<ValidationResult> validationErrors;
 
     /**
      * Creates a new binder validation status for the given binder and validation
@@ -59,11 +72,26 @@ public class BasicBinderValidationStatus<BEAN> implements Serializable {
      */
     public BasicBinderValidationStatus(BasicBinder<BEAN> source, List<BindingValidationStatus<?>> bindingStatuses,
                                        List<ValidationResult> binderStatuses) {
-        Objects.requireNonNull(binderStatuses, "binding statuses cannot be null");
+        Objects.requireNonNull(bindingStatuses, "binding statuses cannot be null");
         Objects.requireNonNull(binderStatuses, "binder statuses cannot be null");
         this.binder = source;
-        this.bindingStatuses = Collections.unmodifiableList(bindingStatuses);
-        this.binderStatuses = Collections.unmodifiableList(binderStatuses);
+        this.bindingStatuses = Collections.unmodifiableList(new ArrayList<>(bindingStatuses));
+        this.binderStatuses = Collections.unmodifiableList(new ArrayList<>(binderStatuses));
+
+        int i = 0;
+        for (BindingValidationStatus<?> s : this.bindingStatuses) {
+            if (s.isError()) {
+                fieldErrors.set(i);
+            }
+            i++;
+        }
+        int errors = 0;
+        for (ValidationResult r : this.binderStatuses) {
+            if (r.isError()) {
+                errors++;
+            }
+        }
+        beanErrorCount = errors;
     }
 
     /**
@@ -98,8 +126,36 @@ public class BasicBinderValidationStatus<BEAN> implements Serializable {
      * @return {@code true} if validation failed, {@code false} if validation passed
      */
     public boolean hasErrors() {
-        return binderStatuses.stream().filter(ValidationResult::isError).findAny().isPresent()
-                || bindingStatuses.stream().filter(BindingValidationStatus::isError).findAny().isPresent();
+        return beanErrorCount > 0 || !fieldErrors.isEmpty();
+    }
+
+    /**
+     * Gets the number of failed field level validation statuses.
+     *
+     * @return the number of field level errors
+     */
+    public int getFieldErrorCount() {
+        return fieldErrors.cardinality();
+    }
+
+    /**
+     * Gets the number of failed bean level validation results.
+     *
+     * @return the number of bean level errors
+     */
+    public int getBeanErrorCount() {
+        return beanErrorCount;
+    }
+
+    /**
+     * Checks whether the field level validation status at the given index of
+     * {@link #getFieldValidationStatuses()} is an error.
+     *
+     * @param index the index of the field validation status
+     * @return {@code true} if the status is an error
+     */
+    public boolean isFieldError(int index) {
+        return fieldErrors.get(index);
     }
 
     /**
@@ -114,13 +170,16 @@ public class BasicBinderValidationStatus<BEAN> implements Serializable {
     /**
      * Gets both field and bean level validation errors.
      *
-     * @return a list of all validation errors
+     * @return the shared, unmodifiable list of all validation errors
      */
     public List<ValidationResult> getValidationErrors() {
-        List<ValidationResult> errors = getFieldValidationErrors().stream().map(s -> s.getResult().get())
-                .collect(Collectors.toList());
-        errors.addAll(getBeanValidationErrors());
-        return errors;
+        if (validationErrors == null) {
+            List<ValidationResult> errors = new ArrayList<>(getFieldErrorCount() + beanErrorCount);
+            getFieldValidationErrors().forEach(s -> errors.add(s.getResult().get()));
+            errors.addAll(getBeanValidationErrors());
+            validationErrors = Collections.unmodifiableList(errors);
+        }
+        return validationErrors;
     }
 
     /**
@@ -150,19 +209,35 @@ public class BasicBinderValidationStatus<BEAN> implements Serializable {
      * The field level validators have been added with
      * {@link BindingBuilder#withValidator(Validator)}.
      *
-     * @return a list of failed field level validation statuses
+     * @return the shared, unmodifiable list of failed field level validation
+     *         statuses
      */
     public List<BindingValidationStatus<?>> getFieldValidationErrors() {
-        return bindingStatuses.stream().filter(BindingValidationStatus::isError).collect(Collectors.toList());
+        if (fieldValidationErrors == null) {
+            List<BindingValidationStatus<?>> errors = new ArrayList<>(getFieldErrorCount());
+            fieldErrors.stream().forEach(i -> errors.add(bindingStatuses.get(i)));
+            fieldValidationErrors = Collections.unmodifiableList(errors);
+        }
+        return fieldValidationErrors;
     }
 
     /**
      * Gets the failed bean level validation results.
      *
-     * @return a list of failed bean level validation results
+     * @return the shared, unmodifiable list of failed bean level validation
+     *         results
      */
     public List<ValidationResult> getBeanValidationErrors() {
-        return binderStatuses.stream().filter(ValidationResult::isError).collect(Collectors.toList());
+        if (beanValidationErrors == null) {
+            List<ValidationResult> errors = new ArrayList<>(beanErrorCount);
+            binderStatuses.forEach(r -> {
+                if (r.isError()) {
+                    errors.add(r);
+                }
+            });
+            beanValidationErrors = Collections.unmodifiableList(errors);
+        }
+        return beanValidationErrors;
     }
 
     /**
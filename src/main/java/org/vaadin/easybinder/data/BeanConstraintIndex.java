@@ -0,0 +1,242 @@
+/*
+ * Copyright 2017 Lars Sønderby Jessen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.easybinder.data;
+
+import jakarta.validation.GroupSequence;
+import jakarta.validation.Validator;
+import jakarta.validation.metadata.BeanDescriptor;
+import jakarta.validation.metadata.PropertyDescriptor;
+
+import java.lang.annotation.Annotation;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cached per bean class summary of the constraint metadata reported by
+ * {@link Validator#getConstraintsForClass(Class)}.
+ * <p>
+ * The index records which properties are constrained, which are cascaded and
+ * whether the class has constraints that may read any property (class level
+ * constraints or a redefined default group sequence). Binders use it to decide
+ * whether a change of a property needs to be validated at all.
+ * <p>
+ * Class level validators are opaque, so when a class has class level
+ * constraints every property is considered relevant.
+ */
+public class BeanConstraintIndex {
+	private static final ClassValue<Map<Validator, BeanConstraintIndex>> CACHE = new ClassValue<Map<Validator, BeanConstraintIndex>>() {
+		@Override
+		protected Map<Validator, BeanConstraintIndex> computeValue(Class<?> type) {
+			return Collections.synchronizedMap(new WeakHashMap<>());
+		}
+	};
+
+	// Relative evaluation cost of a class level and a cascaded constraint compared
+	// to a property constraint
+	protected static final int CLASS_LEVEL_CONSTRAINT_COST = 10;
+	protected static final int CASCADED_PROPERTY_COST = 5;
+
+	protected final Class<?> beanClass;
+	protected final BeanDescriptor descriptor;
+	protected final boolean classLevelConstraints;
+	protected final boolean redefinedDefaultGroupSequence;
+	protected final Set<String> constrainedProperties;
+	protected final Set<String> cascadedProperties;
+	// Index of the type of cascaded properties, absent for container types
+	protected final Map<String, BeanConstraintIndex> cascadedIndexes = new HashMap<>();
+	protected final Map<Class<?>, Integer> evaluationCosts = new ConcurrentHashMap<>();
+
+	protected BeanConstraintIndex(Class<?> beanClass, BeanDescriptor descriptor) {
+		this.beanClass = beanClass;
+		this.descriptor = descriptor;
+		classLevelConstraints = !descriptor.getConstraintDescriptors().isEmpty();
+		redefinedDefaultGroupSequence = hasRedefinedDefaultGroupSequence(beanClass);
+
+		Set<String> constrained = new HashSet<>();
+		Set<String> cascaded = new HashSet<>();
+		for (PropertyDescriptor p : descriptor.getConstrainedProperties()) {
+			if (p.hasConstraints() || !p.getConstrainedContainerElementTypes().isEmpty()) {
+				constrained.add(p.getPropertyName());
+			}
+			if (p.isCascaded()) {
+				cascaded.add(p.getPropertyName());
+			}
+		}
+		constrainedProperties = Collections.unmodifiableSet(constrained);
+		cascadedProperties = Collections.unmodifiableSet(cascaded);
+	}
+
+	/**
+	 * Gets the constraint index of the given bean class as seen by the given
+	 * validator. The index is built on first use and cached.
+	 *
+	 * @param validator the validator providing the constraint metadata
+	 * @param beanClass the bean class
+	 * @return the constraint index, never {@code null}
+	 */
+	public static BeanConstraintIndex get(Validator validator, Class<?> beanClass) {
+		Objects.requireNonNull(validator);
+		Objects.requireNonNull(beanClass);
+		BeanConstraintIndex index = CACHE.get(beanClass).get(validator);
+		if (index == null) {
+			index = build(validator, beanClass, new HashMap<>());
+		}
+		return index;
+	}
+
+	private static BeanConstraintIndex build(Validator validator, Class<?> beanClass,
+			Map<Class<?>, BeanConstraintIndex> inProgress) {
+		BeanDescriptor descriptor = validator.getConstraintsForClass(beanClass);
+		BeanConstraintIndex index = new BeanConstraintIndex(beanClass, descriptor);
+		inProgress.put(beanClass, index);
+
+		// Resolve cascaded types up front, reusing indexes under construction to
+		// support self referencing types
+		for (String property : index.cascadedProperties) {
+			Class<?> type = descriptor.getConstraintsForProperty(property).getElementClass();
+			if (isContainerType(type)) {
+				continue;
+			}
+			BeanConstraintIndex cascadedIndex = CACHE.get(type).get(validator);
+			if (cascadedIndex == null) {
+				cascadedIndex = inProgress.get(type);
+			}
+			if (cascadedIndex == null) {
+				cascadedIndex = build(validator, type, inProgress);
+			}
+			index.cascadedIndexes.put(property, cascadedIndex);
+		}
+
+		BeanConstraintIndex existing = CACHE.get(beanClass).putIfAbsent(validator, index);
+		return existing != null ? existing : index;
+	}
+
+	private static boolean isContainerType(Class<?> type) {
+		return type.isArray() || Iterable.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type)
+				|| Optional.class.equals(type);
+	}
+
+	/**
+	 * Checks if the class or one of its super classes redefines the default group
+	 * sequence, either with {@link GroupSequence} or with a provider specific
+	 * annotation such as Hibernate Validator's {@code @GroupSequenceProvider}.
+	 */
+	private static boolean hasRedefinedDefaultGroupSequence(Class<?> beanClass) {
+		for (Class<?> c = beanClass; c != null && c != Object.class; c = c.getSuperclass()) {
+			for (Annotation a : c.getDeclaredAnnotations()) {
+				if (a instanceof GroupSequence || a.annotationType().getSimpleName().equals("GroupSequenceProvider")) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	public Class<?> getBeanClass() {
+		return beanClass;
+	}
+
+	/**
+	 * Gets whether the bean class declares class level constraints.
+	 *
+	 * @return {@code true} if there are class level constraints
+	 */
+	public boolean hasClassLevelConstraints() {
+		return classLevelConstraints;
+	}
+
+	/**
+	 * Gets whether the default group sequence of the bean class is redefined. The
+	 * active groups may then depend on the value of any property.
+	 *
+	 * @return {@code true} if the default group sequence is redefined
+	 */
+	public boolean hasRedefinedDefaultGroupSequence() {
+		return redefinedDefaultGroupSequence;
+	}
+
+	/**
+	 * Gets whether the validation result may depend on every property of the bean,
+	 * i.e. whether there are class level constraints or a redefined default group
+	 * sequence.
+	 *
+	 * @return {@code true} if any property change may affect validation
+	 */
+	public boolean dependsOnAllProperties() {
+		return classLevelConstraints || redefinedDefaultGroupSequence;
+	}
+
+	public Set<String> getConstrainedProperties() {
+		return constrainedProperties;
+	}
+
+	public boolean isConstrained(String property) {
+		return constrainedProperties.contains(property);
+	}
+
+	public boolean isCascaded(String property) {
+		return cascadedProperties.contains(property);
+	}
+
+	/**
+	 * Gets an estimate of the cost of validating the bean class in the given group,
+	 * based on the number and kind of constraints in the group.
+	 *
+	 * @param group the validation group
+	 * @return the estimated cost, {@code 0} if the group has no constraints
+	 */
+	public int getEvaluationCost(Class<?> group) {
+		return evaluationCosts.computeIfAbsent(group, g -> {
+			int cost = descriptor.findConstraints().unorderedAndMatchingGroups(g).getConstraintDescriptors().size()
+					* CLASS_LEVEL_CONSTRAINT_COST;
+			for (PropertyDescriptor p : descriptor.getConstrainedProperties()) {
+				cost += p.findConstraints().unorderedAndMatchingGroups(g).getConstraintDescriptors().size();
+				if (p.isCascaded()) {
+					cost += CASCADED_PROPERTY_COST;
+				}
+			}
+			return cost;
+		});
+	}
+
+	/**
+	 * Checks whether a change of the given property may change the validation
+	 * result of the bean.
+	 *
+	 * @param propertyPath a property name or a dot separated path of a nested
+	 *                     property
+	 * @return {@code false} if validation of the change can be skipped
+	 */
+	public boolean isRelevant(String propertyPath) {
+		if (dependsOnAllProperties()) {
+			return true;
+		}
+		int dot = propertyPath.indexOf('.');
+		if (dot == -1) {
+			return isConstrained(propertyPath) || isCascaded(propertyPath);
+		}
+		String property = propertyPath.substring(0, dot);
+		if (isConstrained(property)) {
+			// A constraint on the parent may read the nested value
+			return true;
+		}
+		if (!isCascaded(property)) {
+			return false;
+		}
+		BeanConstraintIndex cascadedIndex = cascadedIndexes.get(property);
+		return cascadedIndex == null || cascadedIndex.isRelevant(propertyPath.substring(dot + 1));
+	}
+}
@@ -0,0 +1,396 @@
+/*
+ * Copyright 2017 Lars Sønderby Jessen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.easybinder.data;
+
+import com.vaadin.flow.data.binder.Setter;
+import com.vaadin.flow.function.ValueProvider;
+import org.vaadin.easybinder.data.BasicBinder.EasyBinding;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Cached per bean class accessors for creating beans and reading, writing and
+ * copying property values.
+ * <p>
+ * Property paths are resolved once with the bean introspector, the same way
+ * as by {@code BeanPropertySet}. Getters and setters are called through
+ * classes generated with {@link LambdaMetafactory}, so accessing a value does
+ * not go through reflective method invocation. The classes are defined with a
+ * private lookup in the class declaring the method, so non-public bean
+ * classes are supported as long as their package is open to this library,
+ * which is always the case on the class path. When the private lookup or
+ * the class generation is denied, i.e. for methods declared in a named module
+ * that does not open its package, such as {@code Object.getClass()}, the
+ * accessor falls back to a {@link MethodHandle} on the method, see
+ * {@link PropertyAccessor#isGenerated()}. Like nested property definitions, a
+ * nested property reads as {@code null} and is not written when a parent value
+ * is {@code null}.
+ *
+ * @param <BEAN> the bean type
+ */
+public class BeanCopier<BEAN> {
+	private static final ClassValue<BeanCopier<?>> CACHE = new ClassValue<BeanCopier<?>>() {
+		@Override
+		protected BeanCopier<?> computeValue(Class<?> type) {
+			return new BeanCopier<>(type);
+		}
+	};
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	/**
+	 * Reads and writes a property, possibly nested, of a bean.
+	 */
+	public static class PropertyAccessor {
+		protected final Function<Object, Object>[] parentGetters;
+		protected final Function<Object, Object> getter;
+		protected final BiConsumer<Object, Object> setter;
+		protected final boolean generated;
+
+		protected PropertyAccessor(Function<Object, Object>[] parentGetters, Function<Object, Object> getter,
+				BiConsumer<Object, Object> setter, boolean generated) {
+			this.parentGetters = parentGetters;
+			this.getter = getter;
+			this.setter = setter;
+			this.generated = generated;
+		}
+
+		protected Object getParent(Object bean) {
+			Object parent = bean;
+			for (int i = 0; i < parentGetters.length && parent != null; i++) {
+				parent = parentGetters[i].apply(parent);
+			}
+			return parent;
+		}
+
+		public Object get(Object bean) {
+			Object parent = getParent(bean);
+			return parent != null ? getter.apply(parent) : null;
+		}
+
+		public void set(Object bean, Object value) {
+			if (setter == null) {
+				throw new UnsupportedOperationException("Property is read only");
+			}
+			Object parent = getParent(bean);
+			if (parent != null) {
+				setter.accept(parent, value);
+			}
+		}
+
+		public boolean isReadOnly() {
+			return setter == null;
+		}
+
+		/**
+		 * Checks whether all getters and setters of the property are called through
+		 * generated classes rather than method handles.
+		 *
+		 * @return {@code true} if the accessor uses generated classes only
+		 */
+		public boolean isGenerated() {
+			return generated;
+		}
+	}
+
+	/**
+	 * Serializable getter and setter of a property, backed by the cached
+	 * {@link PropertyAccessor} of the property. The accessor is resolved again
+	 * after deserialization.
+	 *
+	 * @param <BEAN> the bean type
+	 */
+	public static class PropertyReference<BEAN> implements ValueProvider<BEAN, Object>, Setter<BEAN, Object> {
+		private static final long serialVersionUID = 1L;
+
+		protected final Class<BEAN> beanClass;
+		protected final String propertyPath;
+		protected transient PropertyAccessor accessor;
+
+		protected PropertyReference(Class<BEAN> beanClass, String propertyPath, PropertyAccessor accessor) {
+			this.beanClass = beanClass;
+			this.propertyPath = propertyPath;
+			this.accessor = accessor;
+		}
+
+		protected PropertyAccessor getAccessor() {
+			if (accessor == null) {
+				accessor = get(beanClass).getAccessor(propertyPath)
+						.orElseThrow(() -> new IllegalStateException("Property " + propertyPath + " not accessible"));
+			}
+			return accessor;
+		}
+
+		@Override
+		public Object apply(BEAN bean) {
+			return getAccessor().get(bean);
+		}
+
+		@Override
+		public void accept(BEAN bean, Object value) {
+			getAccessor().set(bean, value);
+		}
+	}
+
+	/**
+	 * Copies the bound properties of a binder in binding order. Properties
+	 * without an accessor are copied by their binding.
+	 *
+	 * @param <BEAN> the bean type
+	 */
+	public static class CopyPlan<BEAN> {
+		protected final PropertyAccessor[] accessors;
+		protected final EasyBinding<BEAN, ?, ?>[] bindings;
+
+		protected CopyPlan(PropertyAccessor[] accessors, EasyBinding<BEAN, ?, ?>[] bindings) {
+			this.accessors = accessors;
+			this.bindings = bindings;
+		}
+
+		public void copy(BEAN source, BEAN target) {
+			for (int i = 0; i < accessors.length; i++) {
+				if (accessors[i] != null) {
+					accessors[i].set(target, accessors[i].get(source));
+				} else {
+					bindings[i].copy(source, target);
+				}
+			}
+		}
+	}
+
+	protected final Class<BEAN> beanClass;
+	// Public no-arg constructor, null if none
+	protected final MethodHandle constructor;
+	protected final Map<String, Optional<PropertyAccessor>> accessors = new ConcurrentHashMap<>();
+
+	protected BeanCopier(Class<BEAN> beanClass) {
+		this.beanClass = beanClass;
+		constructor = findConstructor(beanClass);
+	}
+
+	/**
+	 * Gets the copier of the given bean class. The copier is created on first use
+	 * and cached.
+	 *
+	 * @param beanClass the bean class
+	 * @param <T>       the bean type
+	 * @return the copier, never {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> BeanCopier<T> get(Class<T> beanClass) {
+		return (BeanCopier<T>) CACHE.get(Objects.requireNonNull(beanClass));
+	}
+
+	private static MethodHandle findConstructor(Class<?> beanClass) {
+		try {
+			Constructor<?> c = beanClass.getConstructor();
+			c.setAccessible(true);
+			return MethodHandles.lookup().unreflectConstructor(c).asType(MethodType.methodType(Object.class));
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	public Class<BEAN> getBeanClass() {
+		return beanClass;
+	}
+
+	/**
+	 * Creates a bean using the public no-arg constructor of the bean class.
+	 *
+	 * @return the new bean
+	 * @throws UnsupportedOperationException if the bean class has no public
+	 *                                       no-arg constructor
+	 */
+	public BEAN newInstance() {
+		if (constructor == null) {
+			throw new UnsupportedOperationException("No public no-arg constructor in " + beanClass.getName());
+		}
+		try {
+			return beanClass.cast((Object) constructor.invokeExact());
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Gets the accessor of a property.
+	 *
+	 * @param propertyPath a property name or a dot separated path of a nested
+	 *                     property
+	 * @return the accessor, or an empty optional if the property cannot be read
+	 */
+	public Optional<PropertyAccessor> getAccessor(String propertyPath) {
+		return accessors.computeIfAbsent(Objects.requireNonNull(propertyPath), this::createAccessor);
+	}
+
+	/**
+	 * Gets a serializable getter and setter of a property.
+	 *
+	 * @param propertyPath a property name or a dot separated path of a nested
+	 *                     property
+	 * @return the property reference, or an empty optional if the property cannot
+	 *         be read
+	 */
+	public Optional<PropertyReference<BEAN>> getPropertyReference(String propertyPath) {
+		return getAccessor(propertyPath).map(a -> new PropertyReference<>(beanClass, propertyPath, a));
+	}
+
+	@SuppressWarnings("unchecked")
+	protected Optional<PropertyAccessor> createAccessor(String propertyPath) {
+		String[] names = propertyPath.split("\\.");
+		Function<Object, Object>[] parentGetters = new Function[names.length - 1];
+		boolean[] generated = {true};
+		Class<?> type = beanClass;
+		try {
+			for (int i = 0; i < names.length; i++) {
+				PropertyDescriptor descriptor = findPropertyDescriptor(type, names[i]);
+				if (descriptor == null || descriptor.getReadMethod() == null) {
+					return Optional.empty();
+				}
+				Function<Object, Object> getter = createGetter(descriptor.getReadMethod(), generated);
+				if (i < parentGetters.length) {
+					parentGetters[i] = getter;
+					type = descriptor.getPropertyType();
+				} else {
+					Method writeMethod = descriptor.getWriteMethod();
+					BiConsumer<Object, Object> setter = writeMethod != null ? createSetter(writeMethod, generated) : null;
+					return Optional.of(new PropertyAccessor(parentGetters, getter, setter, generated[0]));
+				}
+			}
+		} catch (IntrospectionException | IllegalAccessException | RuntimeException e) {
+			// Not accessible, e.g. due to module restrictions
+		}
+		return Optional.empty();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Function<Object, Object> createGetter(Method method, boolean[] generated)
+			throws IllegalAccessException {
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(),
+					MethodHandles.lookup());
+			MethodHandle handle = lookup.unreflect(method);
+			return (Function<Object, Object>) LambdaMetafactory.metafactory(lookup, "apply",
+					MethodType.methodType(Function.class), GETTER_TYPE, handle,
+					MethodType.methodType(box(method.getReturnType()), method.getDeclaringClass())).getTarget()
+					.invokeExact();
+		} catch (Throwable e) {
+			generated[0] = false;
+		}
+		MethodHandle handle = unreflect(method).asType(GETTER_TYPE);
+		return bean -> {
+			try {
+				return (Object) handle.invokeExact(bean);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new RuntimeException(e);
+			}
+		};
+	}
+
+	@SuppressWarnings("unchecked")
+	private static BiConsumer<Object, Object> createSetter(Method method, boolean[] generated)
+			throws IllegalAccessException {
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(),
+					MethodHandles.lookup());
+			MethodHandle handle = lookup.unreflect(method);
+			return (BiConsumer<Object, Object>) LambdaMetafactory.metafactory(lookup, "accept",
+					MethodType.methodType(BiConsumer.class), SETTER_TYPE, handle,
+					MethodType.methodType(void.class, method.getDeclaringClass(),
+							box(method.getParameterTypes()[0]))).getTarget().invokeExact();
+		} catch (Throwable e) {
+			generated[0] = false;
+		}
+		MethodHandle handle = unreflect(method).asType(SETTER_TYPE);
+		return (bean, value) -> {
+			try {
+				handle.invokeExact(bean, value);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new RuntimeException(e);
+			}
+		};
+	}
+
+	private static Class<?> box(Class<?> type) {
+		return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+	}
+
+	private static PropertyDescriptor findPropertyDescriptor(Class<?> type, String name)
+			throws IntrospectionException {
+		for (PropertyDescriptor descriptor : Introspector.getBeanInfo(type).getPropertyDescriptors()) {
+			if (descriptor.getName().equals(name)) {
+				return descriptor;
+			}
+		}
+		return null;
+	}
+
+	private static MethodHandle unreflect(Method method) throws IllegalAccessException {
+		method.setAccessible(true);
+		return MethodHandles.lookup().unreflect(method);
+	}
+
+	/**
+	 * Creates a plan copying the properties of the given bindings, skipping read
+	 * only bindings.
+	 *
+	 * @param bindings   the bindings in copy order
+	 * @param byProperty selects the bindings whose getter and setter access the
+	 *                   bound property, which can be copied by a property
+	 *                   accessor
+	 * @return the copy plan
+	 */
+	@SuppressWarnings("unchecked")
+	public CopyPlan<BEAN> createCopyPlan(List<EasyBinding<BEAN, ?, ?>> bindings,
+			Predicate<EasyBinding<BEAN, ?, ?>> byProperty) {
+		List<PropertyAccessor> planAccessors = new ArrayList<>();
+		List<EasyBinding<BEAN, ?, ?>> planBindings = new ArrayList<>();
+		for (EasyBinding<BEAN, ?, ?> binding : bindings) {
+			if (binding.setter == null) {
+				continue;
+			}
+			PropertyAccessor accessor = null;
+			if (byProperty.test(binding) && binding.getProperty().isPresent()) {
+				accessor = getAccessor(binding.getProperty().get()).filter(a -> !a.isReadOnly()).orElse(null);
+			}
+			planAccessors.add(accessor);
+			planBindings.add(binding);
+		}
+		return new CopyPlan<>(planAccessors.toArray(new PropertyAccessor[0]),
+				planBindings.toArray(new EasyBinding[0]));
+	}
+}
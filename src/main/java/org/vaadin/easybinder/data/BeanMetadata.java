@@ -0,0 +1,222 @@
+/*
+ * Copyright 2017 Lars Sønderby Jessen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.easybinder.data;
+
+import com.vaadin.flow.data.binder.Setter;
+import com.vaadin.flow.function.ValueProvider;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Descriptor of a bean class generated at compile time for classes annotated
+ * with {@link EasyBindable}.
+ * <p>
+ * The descriptor lists the non-static member fields of the bean class in
+ * declare order from sub class to super class, see
+ * {@link AutoBinder#getFieldsInDeclareOrder(Class)}, with getters and setters
+ * calling the bean directly. Descriptors are registered as services of this
+ * class and found with {@link #get(Class)}, so binders can access properties
+ * without introspecting the bean class. Required indicators and components are
+ * not part of the descriptor, binders resolve them from the field annotations
+ * and {@link ComponentFactoryRegistry} at runtime.
+ *
+ * @param <BEAN> the bean type
+ */
+public abstract class BeanMetadata<BEAN> {
+
+	/**
+	 * Suffix of the name of a generated descriptor class. The descriptor is in
+	 * the package of the bean class and named after the bean class, with nested
+	 * class names separated by underscores.
+	 */
+	public static final String SUFFIX = "_BeanMetadata";
+
+	private static final Logger LOG = Logger.getLogger(BeanMetadata.class.getName());
+
+	private static final ClassValue<Optional<BeanMetadata<?>>> DESCRIPTORS = new ClassValue<Optional<BeanMetadata<?>>>() {
+		@Override
+		protected Optional<BeanMetadata<?>> computeValue(Class<?> type) {
+			return Optional.ofNullable(load(type));
+		}
+	};
+
+	/**
+	 * A property of a bean class.
+	 *
+	 * @param <BEAN> the bean type
+	 * @param <V>    the property type
+	 */
+	public static class Property<BEAN, V> implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		protected final String name;
+		protected final Class<?> type;
+		protected final ValueProvider<BEAN, V> getter;
+		protected final Setter<BEAN, V> setter;
+
+		protected Property(String name, Class<?> type, ValueProvider<BEAN, V> getter, Setter<BEAN, V> setter) {
+			this.name = Objects.requireNonNull(name);
+			this.type = Objects.requireNonNull(type);
+			this.getter = getter;
+			this.setter = setter;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * Gets the declared type of the field, which may be primitive.
+		 *
+		 * @return the property type
+		 */
+		public Class<?> getType() {
+			return type;
+		}
+
+		/**
+		 * Gets the getter of the property.
+		 *
+		 * @return the getter, or {@code null} if the field has no accessible getter
+		 */
+		public ValueProvider<BEAN, V> getGetter() {
+			return getter;
+		}
+
+		/**
+		 * Gets the setter of the property.
+		 *
+		 * @return the setter, or {@code null} if the property is read-only
+		 */
+		public Setter<BEAN, V> getSetter() {
+			return setter;
+		}
+	}
+
+	protected final Class<BEAN> beanClass;
+	protected final List<Property<BEAN, ?>> properties;
+	protected final Map<String, Property<BEAN, ?>> propertiesByName = new LinkedHashMap<>();
+
+	protected BeanMetadata(Class<BEAN> beanClass, List<Property<BEAN, ?>> properties) {
+		this.beanClass = Objects.requireNonNull(beanClass);
+		this.properties = Collections.unmodifiableList(properties);
+		for (Property<BEAN, ?> property : properties) {
+			propertiesByName.putIfAbsent(property.getName(), property);
+		}
+	}
+
+	/**
+	 * Creates a property, used by generated descriptors.
+	 *
+	 * @param <BEAN> the bean type
+	 * @param <V>    the property type
+	 * @param name   the property name
+	 * @param type   the declared type of the field
+	 * @param getter the getter, may be {@code null}
+	 * @param setter the setter, may be {@code null}
+	 * @return the property
+	 */
+	protected static <BEAN, V> Property<BEAN, V> property(String name, Class<?> type, ValueProvider<BEAN, V> getter,
+			Setter<BEAN, V> setter) {
+		return new Property<>(name, type, getter, setter);
+	}
+
+	public Class<BEAN> getBeanClass() {
+		return beanClass;
+	}
+
+	/**
+	 * Gets the properties in declare order from sub class to super class.
+	 *
+	 * @return the properties, not modifiable
+	 */
+	public List<Property<BEAN, ?>> getProperties() {
+		return properties;
+	}
+
+	/**
+	 * Gets a property by name.
+	 *
+	 * @param name the property name
+	 * @return the property, or an empty optional if the bean class has no such
+	 *         field
+	 */
+	public Optional<Property<BEAN, ?>> getProperty(String name) {
+		return Optional.ofNullable(propertiesByName.get(name));
+	}
+
+	/**
+	 * Gets the generated descriptor of a bean class.
+	 *
+	 * @param <T>       the bean type
+	 * @param beanClass the bean class
+	 * @return the descriptor, or an empty optional if none was generated for the
+	 *         bean class
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public static <T> Optional<BeanMetadata<T>> get(Class<T> beanClass) {
+		return (Optional) DESCRIPTORS.get(beanClass);
+	}
+
+	/**
+	 * Gets the name of the descriptor class generated for a bean class.
+	 *
+	 * @param beanClass the bean class
+	 * @return the binary name of the descriptor class
+	 */
+	public static String getDescriptorName(Class<?> beanClass) {
+		String packageName = beanClass.getPackageName();
+		String name = beanClass.getName().substring(packageName.isEmpty() ? 0 : packageName.length() + 1);
+		return (packageName.isEmpty() ? "" : packageName + ".") + name.replace('$', '_') + SUFFIX;
+	}
+
+	private static BeanMetadata<?> load(Class<?> beanClass) {
+		if (beanClass.isPrimitive() || beanClass.isArray() || beanClass.getClassLoader() == null) {
+			return null;
+		}
+		String descriptorName = getDescriptorName(beanClass);
+		// Only the matching provider is instantiated
+		try {
+			@SuppressWarnings("rawtypes")
+			Optional<ServiceLoader.Provider<BeanMetadata>> provider = ServiceLoader
+					.load(BeanMetadata.class, beanClass.getClassLoader()).stream()
+					.filter(e -> e.type().getName().equals(descriptorName)).findFirst();
+			if (provider.isPresent()) {
+				BeanMetadata<?> metadata = provider.get().get();
+				return metadata.getBeanClass() == beanClass ? metadata : null;
+			}
+		} catch (ServiceConfigurationError e) {
+			LOG.log(Level.WARNING, "Unable to load bean metadata of " + beanClass.getName(), e);
+		}
+		return null;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + propertiesByName.keySet();
+	}
+}
@@ -1,7 +1,5 @@
 package org.vaadin.easybinder.data;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -21,6 +19,10 @@ public class BinderAdapter<BEAN> extends Binder<BEAN> {
 
 	BinderValidationStatusHandler<BEAN> statusHandler;
 
+	// The last converted status and the binder status it was converted from
+	BasicBinderValidationStatus<BEAN> lastValidationStatus;
+	BinderValidationStatus<BEAN> lastBinderValidationStatus;
+
 	public BinderAdapter(BasicBinder<BEAN> binder, Class<BEAN> clz) {
 		this.binder = binder;
 		this.clz = clz;
@@ -78,24 +80,11 @@ public class BinderAdapter<BEAN> extends Binder<BEAN> {
 
 	@Override
 	public void readBean(BEAN bean) {
-		if (binder.getBean() == null) {
-			try {
-				Constructor<BEAN> ctor = clz.getConstructor();
-				binder.setBean(ctor.newInstance());
-			} catch (InvocationTargetException | IllegalArgumentException | IllegalAccessException
-					| InstantiationException | NoSuchMethodException | SecurityException e) {
-				throw new UnsupportedOperationException("Not supported");
-			}
-		}
 		BEAN targetBean = binder.getBean();
-		binder.removeBean();
-		binder.getBindings().stream().forEach(e -> {
-			@SuppressWarnings("unchecked")
-			Setter<BEAN, Object> setter = (Setter<BEAN, Object>) e.setter;
-			if (setter != null) {
-				setter.accept(targetBean, e.getter.apply(bean));
-			}
-		});
+		if (targetBean == null) {
+			targetBean = BeanCopier.get(clz).newInstance();
+		}
+		binder.copyProperties(bean, targetBean);
 		binder.setBean(targetBean);
 	}
 
@@ -106,21 +95,8 @@ public class BinderAdapter<BEAN> extends Binder<BEAN> {
 			throw new ValidationException(vs.getFieldValidationErrors(), vs.getBeanValidationErrors());
 		}
 
-		BEAN sourceBean = binder.getBean();
-		if (sourceBean == null) {
-			return;
-		}
-
-		binder.getBindings().stream().forEach(e -> {
-			@SuppressWarnings("unchecked")
-			Setter<BEAN, Object> setter = (Setter<BEAN, Object>) e.setter;
-			if (setter != null) {
-				setter.accept(bean, e.getter.apply(sourceBean));
-			}
-		});
-		// Trigger StatusChange (required by Grid editor).
-		binder.removeBean();
-		binder.setBean(sourceBean);
+		// Fires the status change required by the Grid editor
+		binder.commit(bean);
 	}
 
 	@Override
@@ -155,7 +131,12 @@ public class BinderAdapter<BEAN> extends Binder<BEAN> {
 	@Override
 	public BinderValidationStatus<BEAN> validate() {
 		BasicBinderValidationStatus<BEAN> vs = binder.getValidationStatus();
-		return new BinderValidationStatus<BEAN>(this, vs.getFieldValidationStatuses(), vs.getBeanValidationResults());
+		if (vs != lastValidationStatus) {
+			lastBinderValidationStatus = new BinderValidationStatus<BEAN>(this, vs.getFieldValidationStatuses(),
+					vs.getBeanValidationResults());
+			lastValidationStatus = vs;
+		}
+		return lastBinderValidationStatus;
 	}
 
 	@Override
@@ -200,7 +181,7 @@ public class BinderAdapter<BEAN> extends Binder<BEAN> {
 
 	@Override
 	public boolean hasChanges() {
-		return binder.hasChanges;
+		return binder.getHasChanges();
 	}
 
 	@Override
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2017 Lars Sønderby Jessen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.easybinder.data;
+
+import com.vaadin.flow.function.SerializableSupplier;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+
+/**
+ * Pool of bound binders of a bean class, e.g. for the row editors of a grid.
+ * <p>
+ * Creating a binder with {@link AutoBinder} resolves properties, converters
+ * and required indicators for every field. A pooled binder keeps its bindings
+ * and all their metadata, so acquiring it for another bean only loads the
+ * field values and validates the bean, see {@link BasicBinder#setBean(Object)}.
+ * <p>
+ * The factory typically creates the form components, binds them and returns
+ * the binder. Listeners added to a binder stay registered while it is pooled.
+ * A pool is not thread safe and is meant to be used from a single session.
+ *
+ * @param <BEAN>   the bean type
+ * @param <BINDER> the binder type
+ */
+public class BinderPool<BEAN, BINDER extends BasicBinder<BEAN>> implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	protected final SerializableSupplier<BINDER> factory;
+	protected final int maxIdle;
+	protected final Deque<BINDER> idle = new ArrayDeque<>();
+	protected int createdCount;
+
+	/**
+	 * Creates a pool.
+	 *
+	 * @param factory the factory creating bound binders, not {@code null}
+	 * @param maxIdle the maximum number of idle binders kept for reuse
+	 */
+	public BinderPool(SerializableSupplier<BINDER> factory, int maxIdle) {
+		if (maxIdle < 0) {
+			throw new IllegalArgumentException("Maximum number of idle binders cannot be negative");
+		}
+		this.factory = Objects.requireNonNull(factory);
+		this.maxIdle = maxIdle;
+	}
+
+	/**
+	 * Creates binders until the given number of binders, at most the maximum
+	 * number of idle binders, are ready for reuse.
+	 *
+	 * @param count the number of idle binders to have
+	 */
+	public void warmUp(int count) {
+		while (idle.size() < Math.min(count, maxIdle)) {
+			idle.push(create());
+		}
+	}
+
+	/**
+	 * Gets a binder bound to the given bean, reusing an idle binder if available.
+	 *
+	 * @param bean the bean
+	 * @return the binder
+	 */
+	public BINDER acquire(BEAN bean) {
+		BINDER binder = idle.poll();
+		if (binder == null) {
+			binder = create();
+		}
+		binder.setBean(bean);
+		return binder;
+	}
+
+	/**
+	 * Returns a binder to the pool. The bean of the binder is removed and the
+	 * binder is discarded if the pool is full.
+	 *
+	 * @param binder a binder acquired from this pool
+	 */
+	public void release(BINDER binder) {
+		Objects.requireNonNull(binder);
+		binder.removeBean();
+		if (idle.size() < maxIdle && !idle.contains(binder)) {
+			idle.push(binder);
+		}
+	}
+
+	/**
+	 * Discards all idle binders.
+	 */
+	public void clear() {
+		idle.clear();
+	}
+
+	protected BINDER create() {
+		createdCount++;
+		return Objects.requireNonNull(factory.get(), "Factory returned null");
+	}
+
+	public int getIdleCount() {
+		return idle.size();
+	}
+
+	/**
+	 * Gets the number of binders created by the factory.
+	 *
+	 * @return the number of created binders
+	 */
+	public int getCreatedCount() {
+		return createdCount;
+	}
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright 2017 Lars Sønderby Jessen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.easybinder.data;
+
+import com.vaadin.flow.component.HasValue;
+import jakarta.validation.Path;
+import org.vaadin.easybinder.data.BasicBinder.EasyBinding;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Array backed table of the bindings of a binder, in the order they were
+ * added.
+ * <p>
+ * Each binding is assigned an integer slot in the table. Removing a binding
+ * leaves a hole that is reclaimed by compacting the table once holes make up
+ * half of it, so adding and removing bindings takes amortized constant time.
+ * Bindings are indexed by field, using identity, and by property, including
+ * routing of constraint violation paths with a {@link PropertyPathRouter}.
+ * The table also keeps a bitset of the dirty bindings, indexed by slot.
+ *
+ * @param <BEAN> the bean type
+ */
+public class BindingTable<BEAN> implements Iterable<EasyBinding<BEAN, ?, ?>> {
+	protected EasyBinding<BEAN, ?, ?>[] slots = newArray(16);
+	// Number of used slots, including holes
+	protected int end;
+	protected int size;
+	// Incremented whenever bindings are added or removed
+	protected int modCount;
+	protected BitSet dirty = new BitSet();
+	protected final Map<HasValue<?, ?>, EasyBinding<BEAN, ?, ?>> fieldIndex = new IdentityHashMap<>();
+	protected final Map<String, EasyBinding<BEAN, ?, ?>> propertyIndex = new HashMap<>();
+	protected final PropertyPathRouter<EasyBinding<BEAN, ?, ?>> propertyPathRouter = new PropertyPathRouter<>();
+
+	@SuppressWarnings("unchecked")
+	private static <BEAN> EasyBinding<BEAN, ?, ?>[] newArray(int length) {
+		return new EasyBinding[length];
+	}
+
+	/**
+	 * Adds a binding. A binding replaces any previous binding of the same property
+	 * in the property index.
+	 *
+	 * @param binding the binding to add, not bound to any table
+	 */
+	public void add(EasyBinding<BEAN, ?, ?> binding) {
+		if (binding.slot != -1) {
+			throw new IllegalStateException("Binding has already been added");
+		}
+		if (end == slots.length) {
+			if (size < end / 2) {
+				compact();
+			} else {
+				slots = Arrays.copyOf(slots, slots.length * 2);
+			}
+		}
+		binding.slot = end;
+		slots[end++] = binding;
+		size++;
+		modCount++;
+
+		fieldIndex.put(binding.getField(), binding);
+		binding.getProperty().ifPresent(p -> {
+			propertyIndex.put(p, binding);
+			propertyPathRouter.put(p, binding);
+		});
+	}
+
+	/**
+	 * Removes a binding.
+	 *
+	 * @param binding the binding to remove
+	 * @return {@code true} if the binding was part of this table
+	 */
+	public boolean remove(EasyBinding<?, ?, ?> binding) {
+		if (!contains(binding)) {
+			return false;
+		}
+		int slot = binding.slot;
+		slots[slot] = null;
+		dirty.clear(slot);
+		binding.slot = -1;
+		size--;
+		modCount++;
+		if (slot == end - 1) {
+			end--;
+		} else if (size < end / 2) {
+			compact();
+		}
+
+		fieldIndex.remove(binding.getField(), binding);
+		binding.getProperty().ifPresent(p -> {
+			if (propertyIndex.remove(p, binding)) {
+				propertyPathRouter.remove(p);
+			}
+		});
+		return true;
+	}
+
+	public boolean contains(EasyBinding<?, ?, ?> binding) {
+		int slot = binding.slot;
+		return slot >= 0 && slot < end && slots[slot] == binding;
+	}
+
+	protected void compact() {
+		BitSet compactedDirty = new BitSet();
+		int j = 0;
+		for (int i = 0; i < end; i++) {
+			EasyBinding<BEAN, ?, ?> binding = slots[i];
+			if (binding != null) {
+				if (dirty.get(i)) {
+					compactedDirty.set(j);
+				}
+				binding.slot = j;
+				slots[j++] = binding;
+			}
+		}
+		Arrays.fill(slots, j, end, null);
+		end = j;
+		dirty = compactedDirty;
+	}
+
+	/**
+	 * Removes all bindings.
+	 *
+	 * @return the removed bindings
+	 */
+	public List<EasyBinding<BEAN, ?, ?>> clear() {
+		List<EasyBinding<BEAN, ?, ?>> removed = asList();
+		removed.forEach(e -> e.slot = -1);
+		slots = newArray(16);
+		end = 0;
+		size = 0;
+		modCount++;
+		dirty.clear();
+		fieldIndex.clear();
+		propertyIndex.clear();
+		propertyPathRouter.clear();
+		return removed;
+	}
+
+	/**
+	 * Gets the number of slots in use. The slot of every binding in the table is
+	 * less than this number.
+	 *
+	 * @return the number of slots in use
+	 */
+	public int getSlotCount() {
+		return end;
+	}
+
+	/**
+	 * Gets the modification count of the table, which changes whenever bindings
+	 * are added or removed.
+	 *
+	 * @return the modification count
+	 */
+	public int getModCount() {
+		return modCount;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Marks a binding of this table as dirty or clean.
+	 *
+	 * @param binding the binding
+	 * @param isDirty {@code true} if the binding is dirty
+	 */
+	public void setDirty(EasyBinding<?, ?, ?> binding, boolean isDirty) {
+		if (contains(binding)) {
+			dirty.set(binding.slot, isDirty);
+		}
+	}
+
+	public boolean isDirty(EasyBinding<?, ?, ?> binding) {
+		return contains(binding) && dirty.get(binding.slot);
+	}
+
+	public boolean hasDirty() {
+		return !dirty.isEmpty();
+	}
+
+	/**
+	 * Marks all bindings as clean.
+	 */
+	public void clearDirty() {
+		dirty.clear();
+	}
+
+	/**
+	 * Gets the dirty bindings in the order they were added.
+	 *
+	 * @return a new list of the dirty bindings
+	 */
+	public List<EasyBinding<BEAN, ?, ?>> getDirty() {
+		List<EasyBinding<BEAN, ?, ?>> result = new ArrayList<>(dirty.cardinality());
+		dirty.stream().forEach(i -> result.add(slots[i]));
+		return result;
+	}
+
+	/**
+	 * Gets the binding of a field.
+	 *
+	 * @param field the field
+	 * @return the binding, or {@code null} if the field is not bound
+	 */
+	public EasyBinding<BEAN, ?, ?> get(HasValue<?, ?> field) {
+		return fieldIndex.get(field);
+	}
+
+	/**
+	 * Gets the binding of a property.
+	 *
+	 * @param property the property name or dot separated path
+	 * @return the binding, or {@code null} if the property is not bound
+	 */
+	public EasyBinding<BEAN, ?, ?> get(String property) {
+		return propertyIndex.get(property);
+	}
+
+	public boolean containsProperty(String property) {
+		return propertyIndex.containsKey(property);
+	}
+
+	/**
+	 * Gets the bindings of all bound properties.
+	 *
+	 * @return an unmodifiable view of the bindings by property
+	 */
+	public Map<String, EasyBinding<BEAN, ?, ?>> getPropertyIndex() {
+		return Collections.unmodifiableMap(propertyIndex);
+	}
+
+	/**
+	 * Gets the binding a constraint violation path is routed to.
+	 *
+	 * @param path the property path of a constraint violation
+	 * @return the binding, or {@code null} if none
+	 * @see PropertyPathRouter#route(Path)
+	 */
+	public EasyBinding<BEAN, ?, ?> route(Path path) {
+		return propertyPathRouter.route(path);
+	}
+
+	/**
+	 * Gets the bindings in the order they were added.
+	 *
+	 * @return a new list of the bindings
+	 */
+	public List<EasyBinding<BEAN, ?, ?>> asList() {
+		if (size != end) {
+			compact();
+		}
+		return new ArrayList<>(Arrays.asList(slots).subList(0, end));
+	}
+
+	@Override
+	public void forEach(Consumer<? super EasyBinding<BEAN, ?, ?>> action) {
+		for (int i = 0; i < end; i++) {
+			if (slots[i] != null) {
+				action.accept(slots[i]);
+			}
+		}
+	}
+
+	@Override
+	public Iterator<EasyBinding<BEAN, ?, ?>> iterator() {
+		return asList().iterator();
+	}
+
+	public Stream<EasyBinding<BEAN, ?, ?>> stream() {
+		return Arrays.stream(slots, 0, end).filter(Objects::nonNull);
+	}
+}
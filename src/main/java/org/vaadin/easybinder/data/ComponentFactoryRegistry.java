@@ -64,13 +64,9 @@ ComponentFactoryRegistry {
                 e -> new TextField(SharedUtil.camelCaseToHumanFriendly(e.getName())));
         addBuildPattern(char.class, e -> true, e -> new TextField(SharedUtil.camelCaseToHumanFriendly(e.getName())));
 
-        addBuildPattern(Date.class,
-                e -> Arrays.asList(e.getAnnotations()).stream().filter(f -> f instanceof Temporal)
-                        .map(f -> (Temporal) f).filter(f -> f.value() == TemporalType.TIMESTAMP).findAny().isPresent(),
+        addBuildPattern(Date.class, e -> isTimestamp(e),
                 e -> new DateTimePicker(SharedUtil.camelCaseToHumanFriendly(e.getName())));
-        addBuildPattern(Date.class,
-                e -> !Arrays.asList(e.getAnnotations()).stream().filter(f -> f instanceof Temporal)
-                        .map(f -> (Temporal) f).filter(f -> f.value() == TemporalType.TIMESTAMP).findAny().isPresent(),
+        addBuildPattern(Date.class, e -> !isTimestamp(e),
                 e -> new DatePicker(SharedUtil.camelCaseToHumanFriendly(e.getName())));
         addBuildPattern(LocalDate.class, e -> true,
                 e -> new DatePicker(SharedUtil.camelCaseToHumanFriendly(e.getName())));
@@ -114,6 +110,11 @@ ComponentFactoryRegistry {
         });
     }
 
+    protected static boolean isTimestamp(Field field) {
+        return FieldIndex.get(field.getDeclaringClass()).getAnnotation(field.getName(), Temporal.class)
+                .filter(e -> e.value() == TemporalType.TIMESTAMP).isPresent();
+    }
+
     public static ComponentFactoryRegistry getInstance() {
         if (instance == null) {
             instance = new ComponentFactoryRegistry();
@@ -0,0 +1,341 @@
+/*
+ * Copyright 2017 Lars Sønderby Jessen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.easybinder.data;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Path;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.*;
+import jakarta.validation.metadata.ConstraintDescriptor;
+import jakarta.validation.metadata.PropertyDescriptor;
+
+import java.lang.annotation.Annotation;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.temporal.TemporalAccessor;
+import java.util.*;
+
+/**
+ * Bounded cache of the constraint violations of a property value.
+ * <p>
+ * Results are keyed by validator, bean class, property, value and validation
+ * groups, and each bean class keeps at most a fixed number of results, evicting
+ * the least recently used one. Validators are compared by identity, as the
+ * cached violations hold messages interpolated by the validator that produced
+ * them, so a cache can be shared by binders using different validators.
+ * <p>
+ * Only properties whose constraints are all pure, i.e. only depend on the
+ * validated value, are cached. The built-in constraints are
+ * considered pure except for the temporal ones ({@link Past}, {@link Future},
+ * ...), which depend on the current time. Custom constraints can be marked
+ * pure with {@link #addPureConstraint(Class)}.
+ * <p>
+ * Only immutable values such as strings, numbers, enums and temporal values
+ * are cached, as other values may be changed after being used as a key. The
+ * cached violations are computed with
+ * {@link Validator#validateValue(Class, String, Object, Class...)} and have no
+ * root and leaf bean, use {@link #withBean(Set, Object)} to report them for a
+ * bean.
+ *
+ * @see BasicBinder#setConstraintResultCache(ConstraintResultCache)
+ */
+public class ConstraintResultCache {
+	protected static final Set<Class<? extends Annotation>> DEFAULT_PURE_CONSTRAINTS = Collections
+			.unmodifiableSet(new HashSet<>(Arrays.asList(AssertFalse.class, AssertTrue.class, DecimalMax.class,
+					DecimalMin.class, Digits.class, Email.class, Max.class, Min.class, Negative.class,
+					NegativeOrZero.class, NotBlank.class, NotEmpty.class, NotNull.class, Null.class, Pattern.class,
+					Positive.class, PositiveOrZero.class, Size.class)));
+
+	protected static class Key {
+		protected final Validator validator;
+		protected final String property;
+		protected final Object value;
+		protected final Class<?>[] groups;
+		protected final boolean failFast;
+
+		protected Key(Validator validator, String property, Object value, Class<?>[] groups, boolean failFast) {
+			this.validator = validator;
+			this.property = property;
+			this.value = value;
+			this.groups = groups;
+			this.failFast = failFast;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) o;
+			return validator == other.validator && property.equals(other.property) && Objects.equals(value, other.value)
+					&& Arrays.equals(groups, other.groups) && failFast == other.failFast;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(System.identityHashCode(validator), property, value, Arrays.hashCode(groups), failFast);
+		}
+	}
+
+	/**
+	 * A cached violation of a property value reported for a bean.
+	 *
+	 * @param <T> the bean type
+	 */
+	protected static class BeanConstraintViolation<T> implements ConstraintViolation<T> {
+		protected final ConstraintViolation<T> violation;
+		protected final T bean;
+
+		protected BeanConstraintViolation(ConstraintViolation<T> violation, T bean) {
+			this.violation = violation;
+			this.bean = bean;
+		}
+
+		@Override
+		public String getMessage() {
+			return violation.getMessage();
+		}
+
+		@Override
+		public String getMessageTemplate() {
+			return violation.getMessageTemplate();
+		}
+
+		@Override
+		public T getRootBean() {
+			return bean;
+		}
+
+		@Override
+		public Class<T> getRootBeanClass() {
+			return violation.getRootBeanClass();
+		}
+
+		@Override
+		public Object getLeafBean() {
+			return bean;
+		}
+
+		@Override
+		public Object[] getExecutableParameters() {
+			return violation.getExecutableParameters();
+		}
+
+		@Override
+		public Object getExecutableReturnValue() {
+			return violation.getExecutableReturnValue();
+		}
+
+		@Override
+		public Path getPropertyPath() {
+			return violation.getPropertyPath();
+		}
+
+		@Override
+		public Object getInvalidValue() {
+			return violation.getInvalidValue();
+		}
+
+		@Override
+		public ConstraintDescriptor<?> getConstraintDescriptor() {
+			return violation.getConstraintDescriptor();
+		}
+
+		@Override
+		public <U> U unwrap(Class<U> type) {
+			return type.isInstance(this) ? type.cast(this) : violation.unwrap(type);
+		}
+
+		@Override
+		public String toString() {
+			return violation.toString();
+		}
+	}
+
+	protected final int maxEntriesPerClass;
+	protected final Set<Class<? extends Annotation>> pureConstraints = new HashSet<>(DEFAULT_PURE_CONSTRAINTS);
+	protected final Map<Class<?>, Map<Key, Set<ConstraintViolation<?>>>> results = new HashMap<>();
+	// Cacheable properties by validator identity and bean class
+	protected final Map<Validator, Map<Class<?>, Map<String, Boolean>>> cacheableProperties = new IdentityHashMap<>();
+	protected long hitCount;
+	protected long missCount;
+
+	/**
+	 * Creates a cache.
+	 *
+	 * @param maxEntriesPerClass the maximum number of results kept per bean class
+	 */
+	public ConstraintResultCache(int maxEntriesPerClass) {
+		if (maxEntriesPerClass < 1) {
+			throw new IllegalArgumentException("Maximum number of entries must be positive");
+		}
+		this.maxEntriesPerClass = maxEntriesPerClass;
+	}
+
+	/**
+	 * Marks a constraint annotation as pure, i.e. its validators only depend on
+	 * the validated value.
+	 *
+	 * @param constraint the constraint annotation type
+	 */
+	public synchronized void addPureConstraint(Class<? extends Annotation> constraint) {
+		pureConstraints.add(Objects.requireNonNull(constraint));
+		cacheableProperties.clear();
+	}
+
+	/**
+	 * Checks whether the results of the given property can be cached, i.e. whether
+	 * all its constraints are pure. The caller is responsible for checking that
+	 * no class level constraint or group sequence depends on the property.
+	 *
+	 * @param validator the validator providing the constraint metadata
+	 * @param beanClass the bean class
+	 * @param property  the property name
+	 * @return {@code true} if results of the property can be cached
+	 */
+	public synchronized boolean isCacheable(Validator validator, Class<?> beanClass, String property) {
+		return cacheableProperties.computeIfAbsent(validator, k -> new HashMap<>())
+				.computeIfAbsent(beanClass, k -> new HashMap<>()).computeIfAbsent(property, p -> {
+			PropertyDescriptor descriptor = validator.getConstraintsForClass(beanClass).getConstraintsForProperty(p);
+			return descriptor == null || (descriptor.getConstrainedContainerElementTypes().isEmpty()
+					&& descriptor.getConstraintDescriptors().stream().allMatch(this::isPure));
+		});
+	}
+
+	protected boolean isPure(ConstraintDescriptor<?> descriptor) {
+		return pureConstraints.contains(descriptor.getAnnotation().annotationType())
+				&& descriptor.getComposingConstraints().stream().allMatch(this::isPure);
+	}
+
+	/**
+	 * Checks whether a value can be used as a key, i.e. whether it is immutable.
+	 *
+	 * @param value the value
+	 * @return {@code true} if the value can be used as a key
+	 */
+	public static boolean isCacheableValue(Object value) {
+		return value == null || value instanceof String || value instanceof Boolean || value instanceof Character
+				|| value instanceof Enum || value instanceof Integer || value instanceof Long
+				|| value instanceof Short || value instanceof Byte || value instanceof Double
+				|| value instanceof Float || value instanceof BigDecimal || value instanceof BigInteger
+				|| (value instanceof TemporalAccessor && value.getClass().getName().startsWith("java.time."));
+	}
+
+	/**
+	 * Gets the cached constraint violations of a property value.
+	 *
+	 * @param validator the validator that computed the violations
+	 * @param beanClass the bean class
+	 * @param property  the property name
+	 * @param value     the property value
+	 * @param groups    the validation groups
+	 * @param failFast  whether the result was computed in fail-fast mode
+	 * @param <T>       the bean type
+	 * @return the cached violations, or {@code null} if there are none
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public synchronized <T> Set<ConstraintViolation<T>> get(Validator validator, Class<T> beanClass, String property,
+			Object value, Class<?>[] groups, boolean failFast) {
+		Map<Key, Set<ConstraintViolation<?>>> classResults = results.get(beanClass);
+		Set<ConstraintViolation<?>> violations = classResults != null
+				? classResults.get(new Key(validator, property, value, groups, failFast))
+				: null;
+		if (violations == null) {
+			missCount++;
+		} else {
+			hitCount++;
+		}
+		return (Set) violations;
+	}
+
+	/**
+	 * Caches the constraint violations of a property value, evicting the least
+	 * recently used result of the bean class if the cache is full.
+	 *
+	 * @param validator  the validator that computed the violations
+	 * @param beanClass  the bean class
+	 * @param property   the property name
+	 * @param value      the property value
+	 * @param groups     the validation groups
+	 * @param failFast   whether the result was computed in fail-fast mode
+	 * @param violations the constraint violations
+	 * @param <T>        the bean type
+	 */
+	public synchronized <T> void put(Validator validator, Class<T> beanClass, String property, Object value,
+			Class<?>[] groups, boolean failFast, Set<ConstraintViolation<T>> violations) {
+		results.computeIfAbsent(beanClass, k -> new LinkedHashMap<Key, Set<ConstraintViolation<?>>>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Set<ConstraintViolation<?>>> eldest) {
+				return size() > maxEntriesPerClass;
+			}
+		}).put(new Key(validator, property, value, groups.clone(), failFast),
+				Collections.unmodifiableSet(new HashSet<>(violations)));
+	}
+
+	/**
+	 * Gets the given violations of a property value as violations of a bean, with
+	 * the bean as root and leaf bean like
+	 * {@link Validator#validateProperty(Object, String, Class...)} reports them.
+	 *
+	 * @param violations the violations of a top level property value
+	 * @param bean       the bean
+	 * @param <T>        the bean type
+	 * @return the violations of the bean
+	 */
+	public static <T> Set<ConstraintViolation<T>> withBean(Set<ConstraintViolation<T>> violations, T bean) {
+		if (violations.isEmpty()) {
+			return Collections.emptySet();
+		}
+		Set<ConstraintViolation<T>> beanViolations = new HashSet<>();
+		for (ConstraintViolation<T> violation : violations) {
+			beanViolations.add(new BeanConstraintViolation<>(violation, bean));
+		}
+		return beanViolations;
+	}
+
+	/**
+	 * Removes all cached results of a bean class.
+	 *
+	 * @param beanClass the bean class
+	 */
+	public synchronized void evict(Class<?> beanClass) {
+		results.remove(beanClass);
+	}
+
+	/**
+	 * Removes all cached results and resets the counters.
+	 */
+	public synchronized void clear() {
+		results.clear();
+		hitCount = 0;
+		missCount = 0;
+	}
+
+	public synchronized int size(Class<?> beanClass) {
+		Map<Key, Set<ConstraintViolation<?>>> classResults = results.get(beanClass);
+		return classResults != null ? classResults.size() : 0;
+	}
+
+	public synchronized long getHitCount() {
+		return hitCount;
+	}
+
+	public synchronized long getMissCount() {
+		return missCount;
+	}
+}
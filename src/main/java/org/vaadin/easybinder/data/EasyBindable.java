@@ -0,0 +1,49 @@
+/*
+ * Copyright 2017 Lars Sønderby Jessen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.easybinder.data;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a bean class for which the annotation processor
+ * {@code org.vaadin.easybinder.processor.EasyBindableProcessor} generates a
+ * {@link BeanMetadata} descriptor at compile time.
+ * <p>
+ * Binders use the descriptor, when present, to access the properties instead
+ * of introspecting the bean class. The processor is shipped in the jar with the
+ * {@code processor} classifier and only runs when that jar is on the annotation
+ * processor path, e.g.
+ *
+ * <pre>
+ * &lt;annotationProcessorPaths&gt;
+ *     &lt;path&gt;
+ *         &lt;groupId&gt;org.vaadin.addons&lt;/groupId&gt;
+ *         &lt;artifactId&gt;easybinder-flow&lt;/artifactId&gt;
+ *         &lt;version&gt;${easybinder.version}&lt;/version&gt;
+ *         &lt;classifier&gt;processor&lt;/classifier&gt;
+ *     &lt;/path&gt;
+ * &lt;/annotationProcessorPaths&gt;
+ * </pre>
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface EasyBindable {
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2017 Lars Sønderby Jessen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.easybinder.data;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Index of the fields declared by a class and its super classes, built once
+ * per class.
+ * <p>
+ * Looking up a field by name with {@link Class#getDeclaredField(String)} up
+ * the class hierarchy throws a {@link NoSuchFieldException} for every class
+ * not declaring the field. The index resolves a name with a single map lookup
+ * and keeps the annotations of each field, so they are not copied on every
+ * {@link Field#getAnnotations()} call.
+ * <p>
+ * Unlike {@link Class#getDeclaredFields()}, which returns new copies on every
+ * call, the index returns the same {@link Field} objects to all callers. They
+ * are shared global state and must not be changed, e.g. with
+ * {@link Field#setAccessible(boolean)}; use {@link Class#getDeclaredField(String)}
+ * on {@link Field#getDeclaringClass()} to get a private copy.
+ */
+public final class FieldIndex {
+
+	private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+
+	private static final ClassValue<FieldIndex> INDEXES = new ClassValue<FieldIndex>() {
+		@Override
+		protected FieldIndex computeValue(Class<?> type) {
+			return new FieldIndex(type);
+		}
+	};
+
+	private final List<Field> fields;
+	// The field declared closest to the indexed class by name
+	private final Map<String, Field> fieldsByName = new HashMap<>();
+	private final Map<Field, Annotation[]> annotations = new HashMap<>();
+
+	private FieldIndex(Class<?> type) {
+		List<Field> declared = new ArrayList<>();
+		for (Class<?> searchClass = type; searchClass != null; searchClass = searchClass.getSuperclass()) {
+			try {
+				declared.addAll(Arrays.asList(searchClass.getDeclaredFields()));
+			} catch (SecurityException e) {
+				// Fields not accessible, skip class
+			}
+		}
+		for (Field field : declared) {
+			fieldsByName.putIfAbsent(field.getName(), field);
+			annotations.put(field, field.getAnnotations());
+		}
+		fields = Collections.unmodifiableList(declared);
+	}
+
+	/**
+	 * Gets the field index of a class.
+	 *
+	 * @param type the class
+	 * @return the field index
+	 */
+	public static FieldIndex get(Class<?> type) {
+		return INDEXES.get(type);
+	}
+
+	/**
+	 * Gets all fields in declare order from sub class to super class. The fields
+	 * are shared and must not be changed.
+	 *
+	 * @return the fields, not modifiable
+	 */
+	public List<Field> getFields() {
+		return fields;
+	}
+
+	/**
+	 * Gets a field by name, searching from the class to its super classes. The
+	 * field is shared and must not be changed.
+	 *
+	 * @param name the field name
+	 * @return the field, or an empty optional if no class declares the field
+	 */
+	public Optional<Field> getField(String name) {
+		return Optional.ofNullable(fieldsByName.get(name));
+	}
+
+	/**
+	 * Gets the annotations of a field by name. The returned array is shared and
+	 * must not be modified.
+	 *
+	 * @param name the field name
+	 * @return the annotations, empty if no class declares the field
+	 */
+	public Annotation[] getAnnotations(String name) {
+		Field field = fieldsByName.get(name);
+		return field != null ? annotations.get(field) : NO_ANNOTATIONS;
+	}
+
+	/**
+	 * Gets an annotation of a field by name.
+	 *
+	 * @param <A>            the annotation type
+	 * @param name           the field name
+	 * @param annotationType the annotation type
+	 * @return the annotation, or an empty optional if the field is not annotated
+	 */
+	public <A extends Annotation> Optional<A> getAnnotation(String name, Class<A> annotationType) {
+		for (Annotation annotation : getAnnotations(name)) {
+			if (annotationType.isInstance(annotation)) {
+				return Optional.of(annotationType.cast(annotation));
+			}
+		}
+		return Optional.empty();
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2017 Lars Sønderby Jessen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.easybinder.data;
+
+import jakarta.validation.Path;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Routes constraint violation paths to the targets bound to dot separated
+ * property paths such as {@code "flightId.airline"}.
+ * <p>
+ * The bound paths are kept in a trie keyed by property name, and a
+ * {@link Path} is routed by walking its nodes, so no path strings are built.
+ * Indexes and keys of nodes in iterables and maps are ignored, e.g.
+ * {@code items[3].name} is routed like {@code items.name}. A path is routed to
+ * the target of its longest bound prefix, so violations of nested or container
+ * element values reach the closest bound target.
+ *
+ * @param <T> the target type
+ */
+public class PropertyPathRouter<T> implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	protected static class Node<T> implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		protected final Map<String, Node<T>> children = new HashMap<>(4);
+		protected T target;
+	}
+
+	protected final Node<T> root = new Node<>();
+
+	/**
+	 * Binds a target to a property path, replacing any previous target.
+	 *
+	 * @param propertyPath a property name or a dot separated path of a nested
+	 *                     property
+	 * @param target       the target, not {@code null}
+	 */
+	public void put(String propertyPath, T target) {
+		Objects.requireNonNull(propertyPath);
+		Objects.requireNonNull(target);
+		Node<T> node = root;
+		for (String name : propertyPath.split("\\.")) {
+			node = node.children.computeIfAbsent(name, k -> new Node<>());
+		}
+		node.target = target;
+	}
+
+	/**
+	 * Removes the target bound to a property path, if any.
+	 *
+	 * @param propertyPath the property path
+	 */
+	public void remove(String propertyPath) {
+		Objects.requireNonNull(propertyPath);
+		remove(root, propertyPath.split("\\."), 0);
+	}
+
+	private static <T> boolean remove(Node<T> node, String[] names, int i) {
+		if (i == names.length) {
+			node.target = null;
+		} else {
+			Node<T> child = node.children.get(names[i]);
+			if (child != null && remove(child, names, i + 1)) {
+				node.children.remove(names[i]);
+			}
+		}
+		return node.target == null && node.children.isEmpty();
+	}
+
+	/**
+	 * Removes all targets.
+	 */
+	public void clear() {
+		root.children.clear();
+		root.target = null;
+	}
+
+	/**
+	 * Gets the target of the longest bound prefix of the given path.
+	 *
+	 * @param path the path, typically {@code ConstraintViolation#getPropertyPath()}
+	 * @return the closest bound target, or {@code null} if no prefix of the path is
+	 *         bound
+	 */
+	public T route(Path path) {
+		Node<T> node = root;
+		T target = null;
+		for (Path.Node n : path) {
+			String name = n.getName();
+			if (name == null) {
+				// Bean node of a class level constraint, ends the path
+				break;
+			}
+			node = node.children.get(name);
+			if (node == null) {
+				break;
+			}
+			if (node.target != null) {
+				target = node.target;
+			}
+		}
+		return target;
+	}
+
+	/**
+	 * Checks whether the given path denotes the validated bean itself, i.e.
+	 * whether the violation stems from a class level constraint of the root bean.
+	 *
+	 * @param path the path
+	 * @return {@code true} if no node of the path has a name
+	 */
+	public static boolean isBeanPath(Path path) {
+		for (Path.Node n : path) {
+			if (n.getName() != null) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -23,9 +23,10 @@ import com.vaadin.flow.component.HasValue;
 import com.vaadin.flow.data.binder.*;
 import com.vaadin.flow.data.converter.Converter;
 import com.vaadin.flow.data.provider.HasDataView;
-import com.vaadin.flow.function.SerializablePredicate;
 import com.vaadin.flow.function.ValueProvider;
 import com.vaadin.flow.internal.ReflectTools;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
 import jakarta.validation.constraints.Min;
 import org.vaadin.easybinder.data.converters.NullConverter;
 import org.vaadin.easybinder.data.converters.NullConverterPrimitiveTarget;
@@ -34,6 +35,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -41,17 +43,116 @@ import java.util.logging.Logger;
 public class ReflectionBinder<BEAN> extends BasicBinder<BEAN> implements HasGenericType<BEAN> {
     private static RequiredFieldConfigurator min = (annotation, bindingBuilder) -> annotation.annotationType().equals(Min.class)
             && ((Min) annotation).value() > 0;
+    private static final RequiredFieldConfigurator DEFAULT_REQUIRED_CONFIGURATOR = min.chain(RequiredFieldConfigurator.DEFAULT);
+    // Binding plans by bean class and property name, shared by all binders
+    private static final ClassValue<Map<String, BindingPlan<?>>> BINDING_PLANS = new ClassValue<Map<String, BindingPlan<?>>>() {
+        @Override
+        protected Map<String, BindingPlan<?>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    // Presentation types declared by field classes, empty if the type depends on the field instance
+    private static final ClassValue<Optional<Class<?>>> PRESENTATION_TYPES = new ClassValue<Optional<Class<?>>>() {
+        @Override
+        protected Optional<Class<?>> computeValue(Class<?> type) {
+            Type valueType = GenericTypeReflector.getTypeParameter(type, HasValue.class.getTypeParameters()[1]);
+            if (valueType instanceof ParameterizedType) {
+                return Optional.of((Class<?>) ((ParameterizedType) valueType).getRawType());
+            }
+            return valueType != null ? Optional.of((Class<?>) valueType) : Optional.empty();
+        }
+    };
+
+    /**
+     * Metadata of a bean property resolved on the first binding of the property
+     * and shared by all binders of the bean class. The metadata is taken from the
+     * generated {@link BeanMetadata} of the bean class if available, otherwise it
+     * is resolved by reflection.
+     *
+     * @param <BEAN> the bean type
+     */
+    protected static class BindingPlan<BEAN> {
+        // The property definition, null if taken from generated metadata
+        protected final PropertyDefinition<BEAN, ?> definition;
+        // Accessors generated by BeanCopier or the annotation processor, or those of the definition
+        protected final ValueProvider<BEAN, ?> getter;
+        protected final Setter<BEAN, ?> setter;
+        // Declared type of the property, which may be primitive
+        protected final Class<?> modelType;
+        protected final Annotation[] annotations;
+        // Whether the default required configurator shows the required indicator
+        protected final boolean requiredByDefault;
+        protected final boolean generated;
+
+        protected BindingPlan(PropertyDefinition<BEAN, ?> definition, Field modelField,
+                              BeanCopier.PropertyReference<BEAN> reference) {
+            this.definition = definition;
+            getter = reference != null ? reference : definition.getGetter();
+            setter = reference != null && !reference.getAccessor().isReadOnly() && definition.getSetter().isPresent()
+                    ? reference : definition.getSetter().orElse(null);
+            modelType = modelField.getType();
+            annotations = FieldIndex.get(modelField.getDeclaringClass()).getAnnotations(modelField.getName());
+            requiredByDefault = matchesAny(DEFAULT_REQUIRED_CONFIGURATOR);
+            generated = false;
+        }
+
+        protected BindingPlan(Class<BEAN> beanClass, BeanMetadata.Property<BEAN, ?> property) {
+            definition = null;
+            getter = property.getGetter();
+            setter = property.getSetter();
+            modelType = property.getType();
+            annotations = FieldIndex.get(beanClass).getAnnotations(property.getName());
+            requiredByDefault = matchesAny(DEFAULT_REQUIRED_CONFIGURATOR);
+            generated = true;
+        }
+
+        /**
+         * Checks whether the given configurator shows the required indicator for
+         * the property.
+         *
+         * @param configurator the configurator, may be {@code null}
+         * @return {@code true} if the property is required
+         */
+        protected boolean isRequired(RequiredFieldConfigurator configurator) {
+            if (configurator == DEFAULT_REQUIRED_CONFIGURATOR) {
+                return requiredByDefault;
+            }
+            return configurator != null && matchesAny(configurator);
+        }
+
+        private boolean matchesAny(RequiredFieldConfigurator configurator) {
+            for (Annotation annotation : annotations) {
+                if (configurator.test(annotation, null)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
     protected Class<BEAN> clazz;
     protected PropertySet<BEAN> propertySet;
-    protected Map<String, EasyBinding<BEAN, ?, ?>> boundProperties = new HashMap<String, EasyBinding<BEAN, ?, ?>>();
     protected ConverterRegistry converterRegistry = ConverterRegistry.getInstance();
     protected Logger log = Logger.getLogger(getClass().getName());
 
-    protected RequiredFieldConfigurator requiredConfigurator = min.chain(RequiredFieldConfigurator.DEFAULT);
+    protected RequiredFieldConfigurator requiredConfigurator = DEFAULT_REQUIRED_CONFIGURATOR;
+    // Bindings using the getter and setter of their property definition
+    protected Set<EasyBinding<BEAN, ?, ?>> propertyBindings = Collections.newSetFromMap(new IdentityHashMap<>());
+    protected BeanCopier.CopyPlan<BEAN> copyPlan;
+    protected int copyPlanModCount;
 
     public ReflectionBinder(Class<BEAN> clazz) {
+        this(clazz, ValidatorProvider.getValidator());
+    }
+
+    public ReflectionBinder(Class<BEAN> clazz, Validator validator) {
+        super(validator);
+        this.clazz = clazz;
+    }
+
+    public ReflectionBinder(Class<BEAN> clazz, ValidatorFactory validatorFactory) {
+        super(validatorFactory);
         this.clazz = clazz;
-        propertySet = BeanPropertySet.get(clazz);
     }
 
     public ReflectionBinder(Class<BEAN> clazz, ConverterRegistry converterRegistry) {
@@ -67,16 +168,10 @@ public class ReflectionBinder<BEAN> extends BasicBinder<BEAN> implements HasGene
         Objects.requireNonNull(propertyName, "Property name cannot be null");
         // checkUnbound();
 
-        PropertyDefinition<BEAN, ?> definition = propertySet.getProperty(propertyName)
-                .orElseThrow(() -> new IllegalArgumentException(
-                        "Could not resolve property name " + propertyName + " from " + propertySet));
+        Class<?> modelTypeClass = getBindingPlan(propertyName).modelType;
 
         Optional<Class<PRESENTATION>> presentationTypeClass = getPresentationTypeForField(field);
 
-        // PropertyDefinition does not return primitive type, so need to get it by field name
-        Optional<Field> modelField = getDeclaredFieldByName(definition.getPropertyHolderType(), getTopLevelName(definition));
-        Class<?> modelTypeClass = modelField.get().getType();
-
         Converter<PRESENTATION, ?> converter = null;
         if (presentationTypeClass.isPresent()) {
             converter = createConverter(presentationTypeClass.get(), modelTypeClass, field.getEmptyValue());
@@ -117,31 +212,77 @@ public class ReflectionBinder<BEAN> extends BasicBinder<BEAN> implements HasGene
         Objects.requireNonNull(propertyName, "Property name cannot be null");
         // checkUnbound();
 
-        PropertyDefinition<BEAN, ?> definition = propertySet.getProperty(propertyName)
-                .orElseThrow(() -> new IllegalArgumentException(
-                        "Could not resolve property name " + propertyName + " from " + propertySet));
+        BindingPlan<BEAN> plan = getBindingPlan(propertyName);
 
-        ValueProvider<BEAN, ?> getter = definition.getGetter();
-        Setter<BEAN, ?> setter = readOnly ? null : definition.getSetter().orElse(null);
+        ValueProvider<BEAN, ?> getter = plan.getter;
+        Setter<BEAN, ?> setter = readOnly ? null : plan.setter;
 
         EasyBinding<BEAN, PRESENTATION, MODEL> binding = bind(field, (ValueProvider) getter, (Setter) setter,
                 propertyName, (Converter) converter);
+        binding.setBeanProperty(true);
+        if (!plan.generated) {
+            propertyBindings.add(binding);
+        }
 
-        boundProperties.put(propertyName, binding);
-
-        Optional<Field> modelField = getDeclaredFieldByName(definition.getPropertyHolderType(), getTopLevelName(definition));
-        if (Arrays.asList(modelField.get().getAnnotations()).stream().anyMatch(new SerializablePredicate<Annotation>() {
-            @Override
-            public boolean test(Annotation annotation) {
-                return requiredConfigurator.test(annotation, null);
-            }
-        })) {
+        if (plan.isRequired(requiredConfigurator)) {
             field.setRequiredIndicatorVisible(true);
         }
 
         return binding;
     }
 
+    /**
+     * Gets the binding plan of a property of the bean class, taking it from the
+     * generated {@link BeanMetadata} of the bean class or resolving it by
+     * reflection on first use. Plans are shared by all binders of the bean class.
+     *
+     * @param propertyName the property name or dot separated path
+     * @return the binding plan
+     * @throws IllegalArgumentException if the property cannot be resolved
+     */
+    @SuppressWarnings("unchecked")
+    protected BindingPlan<BEAN> getBindingPlan(String propertyName) {
+        Map<String, BindingPlan<?>> plans = BINDING_PLANS.get(clazz);
+        BindingPlan<BEAN> plan = (BindingPlan<BEAN>) plans.get(propertyName);
+        if (plan == null) {
+            Optional<BeanMetadata.Property<BEAN, ?>> property = BeanMetadata.get(clazz)
+                    .flatMap(e -> e.getProperty(propertyName))
+                    .filter(e -> e.getGetter() != null);
+            if (property.isPresent()) {
+                plan = new BindingPlan<>(clazz, property.get());
+            } else {
+                PropertySet<BEAN> propertySet = getPropertySet();
+                PropertyDefinition<BEAN, ?> definition = propertySet.getProperty(propertyName)
+                        .orElseThrow(() -> new IllegalArgumentException(
+                                "Could not resolve property name " + propertyName + " from " + propertySet));
+                // PropertyDefinition does not return primitive type, so need to get it by field name
+                Field modelField = getDeclaredFieldByName(definition.getPropertyHolderType(), getTopLevelName(definition))
+                        .orElseThrow(() -> new IllegalArgumentException(
+                                "Could not find field of property " + propertyName + " in " + clazz));
+                plan = new BindingPlan<>(definition, modelField,
+                        BeanCopier.get(clazz).getPropertyReference(propertyName).orElse(null));
+            }
+            BindingPlan<?> existing = plans.putIfAbsent(propertyName, plan);
+            if (existing != null) {
+                plan = (BindingPlan<BEAN>) existing;
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * Gets the property set of the bean class, introspecting the bean class on
+     * first use.
+     *
+     * @return the property set
+     */
+    protected PropertySet<BEAN> getPropertySet() {
+        if (propertySet == null) {
+            propertySet = BeanPropertySet.get(clazz);
+        }
+        return propertySet;
+    }
+
     @SuppressWarnings("unchecked")
     protected <PRESENTATION, MODEL> Converter<PRESENTATION, MODEL> createConverter(Class<PRESENTATION> presentationType,
                                                                                    Class<MODEL> modelType, PRESENTATION emptyValue) {
@@ -150,16 +291,16 @@ public class ReflectionBinder<BEAN> extends BasicBinder<BEAN> implements HasGene
 
         Converter<PRESENTATION, MODEL> converter = converterRegistry.getConverter(presentationType, modelType);
         if (converter != null) {
-            log.log(Level.INFO, "Converter for {0}->{1} found by lookup", new Object[]{presentationType, modelType});
+            log.log(Level.FINE, "Converter for {0}->{1} found by lookup", new Object[]{presentationType, modelType});
         } else if (ReflectTools.convertPrimitiveType(presentationType)
                 .equals(ReflectTools.convertPrimitiveType(modelType))) {
             if (modelType.isPrimitive()) {
                 converter = (Converter<PRESENTATION, MODEL>) new NullConverterPrimitiveTarget<PRESENTATION>();
-                log.log(Level.INFO, "Converter for primitive {0}->{1} found by identity",
+                log.log(Level.FINE, "Converter for primitive {0}->{1} found by identity",
                         new Object[]{presentationType, modelType});
             } else {
                 converter = (Converter<PRESENTATION, MODEL>) new NullConverter<PRESENTATION>(emptyValue);
-                log.log(Level.INFO, "Converter for non-primitive {0}->{1} found by identity",
+                log.log(Level.FINE, "Converter for non-primitive {0}->{1} found by identity",
                         new Object[]{presentationType, modelType});
             }
         }
@@ -199,13 +340,9 @@ public class ReflectionBinder<BEAN> extends BasicBinder<BEAN> implements HasGene
 
         // Try to find the field type using reflection. This will work for any fields
         // except fields with generic types.
-        Type valueType = GenericTypeReflector.getTypeParameter(field.getClass(), HasValue.class.getTypeParameters()[1]);
-        if (valueType != null) {
-            if (valueType instanceof ParameterizedType) {
-                ParameterizedType pType = (ParameterizedType) valueType;
-                return Optional.of((Class<PRESENTATION>) pType.getRawType());
-            }
-            return Optional.of((Class<PRESENTATION>) valueType);
+        Optional<Class<?>> declaredType = PRESENTATION_TYPES.get(field.getClass());
+        if (declaredType.isPresent()) {
+            return Optional.of((Class<PRESENTATION>) declaredType.get());
         }
 
         // Not possible to find using reflection (due to type erasure).
@@ -244,15 +381,7 @@ public class ReflectionBinder<BEAN> extends BasicBinder<BEAN> implements HasGene
     }
 
     protected Optional<Field> getDeclaredFieldByName(Class<?> searchClass, String name) {
-        while (searchClass != null) {
-            try {
-                return Optional.of(searchClass.getDeclaredField(name));
-            } catch (NoSuchFieldException | SecurityException e) {
-                // No such field, try superclass
-                searchClass = searchClass.getSuperclass();
-            }
-        }
-        return Optional.empty();
+        return searchClass != null ? FieldIndex.get(searchClass).getField(name) : Optional.empty();
     }
 
     /**
@@ -282,6 +411,36 @@ public class ReflectionBinder<BEAN> extends BasicBinder<BEAN> implements HasGene
         requiredConfigurator = configurator;
     }
 
+    @Override
+    protected <FIELDVALUE, TARGET> void clearBinding(EasyBinding<BEAN, FIELDVALUE, TARGET> binding) {
+        super.clearBinding(binding);
+        propertyBindings.remove(binding);
+    }
+
+    @Override
+    public void removeAllBindings() {
+        super.removeAllBindings();
+        propertyBindings.clear();
+    }
+
+    /**
+     * Copies the bound properties using a {@link BeanCopier} plan, which is
+     * rebuilt when bindings are added or removed.
+     */
+    @Override
+    protected void copyProperties(BEAN source, BEAN target) {
+        if (copyPlan == null || copyPlanModCount != bindings.getModCount()) {
+            copyPlan = BeanCopier.get(clazz).createCopyPlan(bindings.asList(), propertyBindings::contains);
+            copyPlanModCount = bindings.getModCount();
+        }
+        copyPlan.copy(source, target);
+    }
+
+    @Override
+    protected Class<?> getBeanClass() {
+        return getBean() != null ? getBean().getClass() : clazz;
+    }
+
     @Override
     public Class<BEAN> getGenericType() {
         return clazz;
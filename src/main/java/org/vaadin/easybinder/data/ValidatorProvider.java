@@ -0,0 +1,149 @@
+/*
+ * Copyright 2017 Lars Sønderby Jessen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.easybinder.data;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorContext;
+import jakarta.validation.ValidatorFactory;
+
+import java.util.Objects;
+
+/**
+ * Process wide holder of the {@link ValidatorFactory} and {@link Validator}
+ * shared by all binders.
+ * <p>
+ * Bootstrapping a validator factory is expensive, and each factory keeps its own
+ * constraint metadata cache. The default factory is therefore built lazily on
+ * first use and reused by every binder that is not given a validator
+ * explicitly.
+ */
+public final class ValidatorProvider {
+	/**
+	 * Configuration property enabling fail-fast mode in Hibernate Validator. Other
+	 * providers ignore it.
+	 */
+	public static final String FAIL_FAST_PROPERTY = "hibernate.validator.fail_fast";
+
+	private static final String HIBERNATE_VALIDATOR_CONTEXT = "org.hibernate.validator.HibernateValidatorContext";
+
+	private static volatile ValidatorFactory validatorFactory;
+	private static volatile Validator validator;
+	private static volatile Validator failFastValidator;
+
+	private ValidatorProvider() {
+	}
+
+	/**
+	 * Gets the shared validator factory, building the default one if none has been
+	 * set.
+	 *
+	 * @return the shared validator factory, never {@code null}
+	 */
+	public static ValidatorFactory getValidatorFactory() {
+		ValidatorFactory factory = validatorFactory;
+		if (factory == null) {
+			synchronized (ValidatorProvider.class) {
+				factory = validatorFactory;
+				if (factory == null) {
+					factory = Validation.buildDefaultValidatorFactory();
+					validatorFactory = factory;
+				}
+			}
+		}
+		return factory;
+	}
+
+	/**
+	 * Gets the shared validator.
+	 *
+	 * @return the validator of the shared validator factory, never {@code null}
+	 */
+	public static Validator getValidator() {
+		Validator v = validator;
+		if (v == null) {
+			synchronized (ValidatorProvider.class) {
+				v = validator;
+				if (v == null) {
+					v = getValidatorFactory().getValidator();
+					validator = v;
+				}
+			}
+		}
+		return v;
+	}
+
+	/**
+	 * Gets the shared fail-fast validator, which stops a validation call at the
+	 * first constraint violation if the provider supports it. It is created from
+	 * the shared validator factory, so it uses the same message interpolator and
+	 * constraint validator factory as {@link #getValidator()}.
+	 *
+	 * @return the shared fail-fast validator, never {@code null}
+	 * @see #createFailFastValidator(ValidatorFactory)
+	 */
+	public static Validator getFailFastValidator() {
+		Validator v = failFastValidator;
+		if (v == null) {
+			synchronized (ValidatorProvider.class) {
+				v = failFastValidator;
+				if (v == null) {
+					v = createFailFastValidator(getValidatorFactory());
+					failFastValidator = v;
+				}
+			}
+		}
+		return v;
+	}
+
+	/**
+	 * Creates a fail-fast validator from the given factory. Fail-fast mode is
+	 * enabled using the {@code failFast} option of the Hibernate Validator
+	 * context. With other providers a plain validator of the factory is returned.
+	 *
+	 * @param factory the validator factory, not {@code null}
+	 * @return the fail-fast validator
+	 */
+	public static Validator createFailFastValidator(ValidatorFactory factory) {
+		ValidatorContext context = factory.usingContext();
+		try {
+			// Hibernate Validator is optional, so the context is configured reflectively
+			Class<?> type = Class.forName(HIBERNATE_VALIDATOR_CONTEXT, false, context.getClass().getClassLoader());
+			if (type.isInstance(context)) {
+				context = (ValidatorContext) type.getMethod("failFast", boolean.class).invoke(context, true);
+			}
+		} catch (ReflectiveOperationException | LinkageError e) {
+			// Not Hibernate Validator, validate without fail-fast mode
+		}
+		return context.getValidator();
+	}
+
+	/**
+	 * Replaces the shared validator factory, e.g. with a container managed one.
+	 * The shared fail-fast validator is created from the new factory on next use.
+	 * Binders created before this call keep the validator they were created with.
+	 *
+	 * @param factory the validator factory to share, not {@code null}
+	 */
+	public static void setValidatorFactory(ValidatorFactory factory) {
+		Objects.requireNonNull(factory, "Validator factory cannot be null");
+		synchronized (ValidatorProvider.class) {
+			validatorFactory = factory;
+			validator = null;
+			failFastValidator = null;
+		}
+	}
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright 2017 Lars Sønderby Jessen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.easybinder.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Generates a {@code BeanMetadata} descriptor for each class annotated with
+ * {@code @EasyBindable} and registers the descriptors as services.
+ * <p>
+ * A descriptor lists the non-static member fields of the class and its super
+ * classes with their types and the getters and setters following the Java
+ * beans naming conventions as lambdas calling the bean. Fields without an
+ * accessible getter are listed without accessors and left to reflection.
+ * Required indicators and components are left to the runtime, so they follow
+ * the required configurator of the binder and the build patterns of
+ * {@code ComponentFactoryRegistry}.
+ * <p>
+ * The processor is not part of the library jar. It is shipped in the jar with
+ * the {@code processor} classifier, to be put on the annotation processor
+ * path, e.g. with the {@code annotationProcessorPaths} of the Maven compiler
+ * plugin.
+ */
+@SupportedAnnotationTypes(EasyBindableProcessor.ANNOTATION)
+public class EasyBindableProcessor extends AbstractProcessor {
+
+	static final String ANNOTATION = "org.vaadin.easybinder.data.EasyBindable";
+	static final String METADATA = "org.vaadin.easybinder.data.BeanMetadata";
+	static final String SUFFIX = "_BeanMetadata";
+	static final String SERVICE_FILE = "META-INF/services/" + METADATA;
+
+	// Descriptors generated in this compilation
+	protected final Set<String> descriptors = new TreeSet<>();
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		for (TypeElement annotation : annotations) {
+			for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+				if (element.getKind() != ElementKind.CLASS) {
+					error("@EasyBindable is only supported on classes", element);
+				} else if (element.getModifiers().contains(Modifier.PRIVATE)) {
+					error("@EasyBindable is not supported on private classes", element);
+				} else if (!((TypeElement) element).getTypeParameters().isEmpty()) {
+					error("@EasyBindable is not supported on generic classes", element);
+				} else {
+					generate((TypeElement) element);
+				}
+			}
+		}
+		if (roundEnv.processingOver() && !descriptors.isEmpty()) {
+			writeServiceFile();
+		}
+		return true;
+	}
+
+	protected void generate(TypeElement type) {
+		Elements elements = processingEnv.getElementUtils();
+		String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+		String simpleName = getFlatName(type) + SUFFIX;
+		String name = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+		String bean = type.getQualifiedName().toString();
+
+		List<String> properties = new ArrayList<>();
+		Set<String> names = new LinkedHashSet<>();
+		for (VariableElement field : getFieldsInDeclareOrder(type)) {
+			if (names.add(field.getSimpleName().toString())) {
+				properties.add(createProperty(type, field));
+			}
+		}
+
+		try (PrintWriter out = new PrintWriter(processingEnv.getFiler().createSourceFile(name, type).openWriter())) {
+			if (!packageName.isEmpty()) {
+				out.println("package " + packageName + ";");
+				out.println();
+			}
+			out.println("@SuppressWarnings({\"unchecked\", \"rawtypes\"})");
+			out.println("public final class " + simpleName + " extends " + METADATA + "<" + bean + "> {");
+			out.println();
+			out.println("\tpublic " + simpleName + "() {");
+			out.print("\t\tsuper(" + bean + ".class, java.util.Arrays.asList(");
+			for (int i = 0; i < properties.size(); i++) {
+				out.print(i == 0 ? "" : ",");
+				out.println();
+				out.print("\t\t\t\t" + properties.get(i));
+			}
+			out.println("));");
+			out.println("\t}");
+			out.println("}");
+		} catch (IOException e) {
+			error("Unable to write " + name + ": " + e.getMessage(), type);
+			return;
+		}
+		descriptors.add(name);
+	}
+
+	protected String createProperty(TypeElement type, VariableElement field) {
+		Types types = processingEnv.getTypeUtils();
+		String bean = type.getQualifiedName().toString();
+		String fieldName = field.getSimpleName().toString();
+		TypeMirror fieldType = types.erasure(field.asType());
+		String typeName = getTypeName(fieldType);
+		String valueType = fieldType.getKind().isPrimitive()
+				? types.boxedClass((PrimitiveType) fieldType).getQualifiedName().toString()
+				: typeName;
+
+		ExecutableElement getter = findGetter(type, fieldName, fieldType);
+		ExecutableElement setter = getter != null ? findSetter(type, fieldName, getter.getReturnType()) : null;
+
+		return METADATA + ".<" + bean + ", " + valueType + ">property(\"" + fieldName + "\", "
+				+ typeName + ".class, "
+				+ (getter != null ? "bean -> bean." + getter.getSimpleName() + "()" : "null") + ", "
+				+ (setter != null ? "(bean, value) -> bean." + setter.getSimpleName() + "(value)" : "null") + ")";
+	}
+
+	/**
+	 * Gets the non-static member fields of a class in declare order from sub
+	 * class to super class.
+	 */
+	protected List<VariableElement> getFieldsInDeclareOrder(TypeElement type) {
+		List<VariableElement> fields = new ArrayList<>();
+		TypeElement current = type;
+		while (current != null && !current.getQualifiedName().contentEquals("java.lang.Object")) {
+			for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+				if (!field.getModifiers().contains(Modifier.STATIC)) {
+					fields.add(field);
+				}
+			}
+			TypeMirror superclass = current.getSuperclass();
+			current = superclass.getKind() == TypeKind.DECLARED
+					? (TypeElement) ((DeclaredType) superclass).asElement()
+					: null;
+		}
+		return fields;
+	}
+
+	protected ExecutableElement findGetter(TypeElement type, String fieldName, TypeMirror fieldType) {
+		Types types = processingEnv.getTypeUtils();
+		String suffix = capitalize(fieldName);
+		for (ExecutableElement method : getAccessibleMethods(type)) {
+			String name = method.getSimpleName().toString();
+			boolean isGetter = name.equals("get" + suffix)
+					|| name.equals("is" + suffix) && method.getReturnType().getKind() == TypeKind.BOOLEAN;
+			if (isGetter && method.getParameters().isEmpty()
+					&& types.isSameType(types.erasure(method.getReturnType()), fieldType)) {
+				return method;
+			}
+		}
+		return null;
+	}
+
+	protected ExecutableElement findSetter(TypeElement type, String fieldName, TypeMirror propertyType) {
+		Types types = processingEnv.getTypeUtils();
+		for (ExecutableElement method : getAccessibleMethods(type)) {
+			if (method.getSimpleName().contentEquals("set" + capitalize(fieldName))
+					&& method.getParameters().size() == 1 && method.getReturnType().getKind() == TypeKind.VOID
+					&& types.isSameType(types.erasure(method.getParameters().get(0).asType()),
+					types.erasure(propertyType))) {
+				return method;
+			}
+		}
+		return null;
+	}
+
+	// Public or package visible instance methods of the class and its super classes
+	protected List<ExecutableElement> getAccessibleMethods(TypeElement type) {
+		Elements elements = processingEnv.getElementUtils();
+		PackageElement pkg = elements.getPackageOf(type);
+		List<ExecutableElement> methods = new ArrayList<>();
+		for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(type))) {
+			Set<Modifier> modifiers = method.getModifiers();
+			if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.PRIVATE)) {
+				continue;
+			}
+			if (modifiers.contains(Modifier.PUBLIC) || elements.getPackageOf(method).equals(pkg)) {
+				methods.add(method);
+			}
+		}
+		return methods;
+	}
+
+	/**
+	 * Writes the service file, keeping descriptors registered by an earlier
+	 * compilation that still exist, e.g. in an incremental compilation of some
+	 * of the sources.
+	 */
+	protected void writeServiceFile() {
+		Set<String> services = new TreeSet<>(descriptors);
+		try {
+			FileObject existing = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+			try (BufferedReader in = new BufferedReader(
+					new InputStreamReader(existing.openInputStream(), StandardCharsets.UTF_8))) {
+				String line;
+				while ((line = in.readLine()) != null) {
+					if (!line.trim().isEmpty() && processingEnv.getElementUtils().getTypeElement(line.trim()) != null) {
+						services.add(line.trim());
+					}
+				}
+			}
+		} catch (IOException e) {
+			// No earlier service file
+		}
+		try (Writer out = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE)
+				.openWriter()) {
+			for (String service : services) {
+				out.write(service + "\n");
+			}
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+					"Unable to write " + SERVICE_FILE + ": " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Gets the source name of an erased type, without the type annotations
+	 * included by {@link TypeMirror#toString()}.
+	 */
+	protected String getTypeName(TypeMirror type) {
+		switch (type.getKind()) {
+		case ARRAY:
+			return getTypeName(((ArrayType) type).getComponentType()) + "[]";
+		case DECLARED:
+			return ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+		default:
+			return type.getKind().name().toLowerCase(Locale.ROOT);
+		}
+	}
+
+	protected String getFlatName(TypeElement type) {
+		Element enclosing = type.getEnclosingElement();
+		if (enclosing instanceof TypeElement) {
+			return getFlatName((TypeElement) enclosing) + "_" + type.getSimpleName();
+		}
+		return type.getSimpleName().toString();
+	}
+
+	protected void error(String message, Element element) {
+		processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+	}
+
+	private static String capitalize(String name) {
+		return name.isEmpty() ? name : Character.toUpperCase(name.charAt(0)) + name.substring(1);
+	}
+}
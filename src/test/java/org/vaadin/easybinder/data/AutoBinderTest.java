@@ -70,6 +70,13 @@ public class AutoBinderTest {
         assertNotNull(binder.getFieldForProperty("spare.tire.type"));
     }
 
+    @SuppressWarnings("deprecation")
+    @Test
+    public void testBindInstanceFieldsKeepsIndexedFieldsUnchanged() {
+        binder.bindInstanceFields(new MyForm());
+        assertFalse(FieldIndex.get(MyForm.class).getField("street").get().isAccessible());
+    }
+
     @SuppressWarnings("unchecked")
     @Test
     public void testBuildAndBindWithListOfNestedProperties() {
@@ -1,16 +1,27 @@
 package org.vaadin.easybinder.data;
 
+import com.vaadin.flow.component.ComponentUtil;
 import com.vaadin.flow.component.HasValue;
+import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.html.Span;
 import com.vaadin.flow.component.textfield.TextField;
 import com.vaadin.flow.data.binder.BindingValidationStatus;
+import com.vaadin.flow.data.binder.ValidationResult;
+import com.vaadin.flow.data.binder.ValueContext;
 import com.vaadin.flow.data.converter.StringToIntegerConverter;
+import com.vaadin.flow.server.Command;
+import com.vaadin.flow.shared.Registration;
 import jakarta.validation.Constraint;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Payload;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidationException;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.vaadin.easybinder.data.BasicBinder.EasyBinding;
@@ -21,13 +32,18 @@ import org.vaadin.easybinder.usagetest.BasicBinderGroupingTest.MyGroup;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
 import static info.solidsoft.mockito.java8.AssertionMatcher.assertArg;
 import static java.lang.annotation.ElementType.TYPE;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
 import static org.junit.Assert.*;
+import static org.mockito.AdditionalAnswers.delegatesTo;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -212,12 +228,54 @@ public class BasicBinderTest {
 		assertTrue(s.getResult().get().isError());
 	}
 
+	@Test
+	public void testConversionErrorAfterValidationErrorCleared() {
+		binder.bind(age, MyEntity::getAge, MyEntity::setAge, "age", new StringLengthConverterValidator("Must be a number", 1, null).chain(new StringToIntegerConverter("Must be a number")));
+		MyEntity bean = new MyEntity();
+		bean.setAge(-20);
+		binder.setBean(bean);
+		assertNotNull(ComponentUtil.getData(age, "error"));
+
+		age.setValue("5");
+		assertNull(ComponentUtil.getData(age, "error"));
+
+		// The conversion error skips validation, the field must still be notified
+		age.setValue("abc");
+		assertNotNull(ComponentUtil.getData(age, "error"));
+	}
+
 	@Test
 	public void testBindingFindLocaleDefault() {
 		EasyBinding<MyEntity, String, Integer> binding = binder.bind(age, MyEntity::getAge, MyEntity::setAge, "age", new StringLengthConverterValidator("Must be a number", 1, null).chain(new StringToIntegerConverter("Must be a number")));
 		assertEquals(Locale.getDefault(), binding.findLocale());
 	}
 
+	@Test
+	public void testBindingValueContextCached() {
+		EasyBinding<MyEntity, String, Integer> binding = binder.bind(age, MyEntity::getAge, MyEntity::setAge, "age", new StringLengthConverterValidator("Must be a number", 1, null).chain(new StringToIntegerConverter("Must be a number")));
+		ValueContext context = binding.getValueContext();
+		assertSame(context, binding.getValueContext());
+		assertEquals(Locale.getDefault(), context.getLocale().get());
+		assertSame(age, context.getComponent().get());
+
+		UI ui = new UI();
+		ui.setLocale(Locale.GERMAN);
+		ui.add(age);
+		ValueContext attached = binding.getValueContext();
+		assertNotSame(context, attached);
+		assertEquals(Locale.GERMAN, attached.getLocale().get());
+		assertSame(attached, binding.getValueContext());
+
+		ui.setLocale(Locale.FRENCH);
+		assertEquals(Locale.FRENCH, binding.findLocale());
+		assertEquals(Locale.FRENCH, binding.getValueContext().getLocale().get());
+		// The locale follows the rules of ValueContext
+		assertEquals(new ValueContext(age, age).getLocale(), binding.getValueContext().getLocale());
+
+		ui.remove(age);
+		assertEquals(Locale.getDefault(), binding.getValueContext().getLocale().get());
+	}
+
 
 	@Test
 	public void testGetGetter() {
@@ -262,7 +320,8 @@ public class BasicBinderTest {
 		lastName.setValue("giraf");
 
 		verify(valueChangeListener, times(1)).valueChanged(any());
-		verify(statusChangeListener, atLeast(1)).statusChange(assertArg(sc -> assertTrue(sc.hasValidationErrors())));
+		// Still invalid, so no status change
+		verify(statusChangeListener, never()).statusChange(any());
 		assertTrue(binder.getHasChanges());
 
 		reset(valueChangeListener);
@@ -360,6 +419,188 @@ public class BasicBinderTest {
 		assertEquals(1, binder.getConstraintViolations().size());
 	}
 
+	@Test
+	public void testSetBeanBulkLoad() {
+		TextField firstName = spy(new TextField());
+		binder.bind(firstName, e -> e.getFirstName(), (e,f) -> e.setFirstName(f), "firstName", new NullConverter<>(""));
+		binder.bind(age, MyEntity::getAge, MyEntity::setAge, "age", new StringLengthConverterValidator("Must be a number", 1, null).chain(new StringToIntegerConverter("Must be a number")));
+		binder.setBean(new MyEntity());
+		age.setValue("nan");
+		assertTrue(binder.getBinding("age").get().hasConversionError());
+
+		BinderStatusChangeListener statusChangeListener = mock(BinderStatusChangeListener.class);
+		HasValue.ValueChangeListener<?> valueChangeListener = mock(HasValue.ValueChangeListener.class);
+		binder.addStatusChangeListener(statusChangeListener);
+		binder.addValueChangeListener(valueChangeListener);
+		binder.validator = mock(Validator.class, delegatesTo(binder.validator));
+		reset(firstName);
+
+		MyEntity e = new MyEntity();
+		e.setFirstName("giraf");
+		e.setAge(10);
+		binder.setBean(e);
+		MyEntity e2 = new MyEntity();
+		e2.setFirstName("giraf");
+		e2.setAge(11);
+		binder.setBean(e2);
+
+		// Unchanged value is not set again
+		verify(firstName, times(1)).setValue(any());
+		assertEquals("11", age.getValue());
+		assertFalse(binder.getBinding("age").get().hasConversionError());
+		assertEquals(11, e2.getAge());
+		assertEquals(10, e.getAge());
+		verify(binder.validator, times(2)).validate(any(), anyVararg());
+		verify(statusChangeListener, times(2)).statusChange(any());
+		verify(valueChangeListener, never()).valueChanged(any());
+		assertFalse(binder.getHasChanges());
+	}
+
+	@Test
+	public void testDirtyTracking() {
+		binder.bind(firstName, e -> e.getFirstName(), (e,f) -> e.setFirstName(f), "firstName", new NullConverter<>(""));
+		binder.bind(age, MyEntity::getAge, MyEntity::setAge, "age", new StringLengthConverterValidator("Must be a number", 1, null).chain(new StringToIntegerConverter("Must be a number")));
+		MyEntity e = new MyEntity();
+		e.setFirstName("giraf");
+		e.setAge(10);
+		binder.setBean(e);
+		assertFalse(binder.getHasChanges());
+
+		firstName.setValue("John");
+		assertTrue(binder.getHasChanges());
+		assertTrue(binder.isDirty("firstName"));
+		assertEquals(Arrays.asList("firstName"), binder.getDirtyProperties());
+
+		// Reverting an edit makes the form clean again
+		firstName.setValue("giraf");
+		assertFalse(binder.getHasChanges());
+
+		age.setValue("-11");
+		firstName.setValue("John");
+		assertEquals(Arrays.asList("firstName", "age"), binder.getDirtyProperties());
+		assertTrue(binder.getBinding("age").get().hasValidationError());
+
+		binder.revertProperty("age");
+		assertEquals("10", age.getValue());
+		assertEquals(10, e.getAge());
+		assertFalse(binder.getBinding("age").get().hasValidationError());
+		assertEquals(Arrays.asList("firstName"), binder.getDirtyProperties());
+
+		binder.revertProperty("firstName");
+		assertEquals("giraf", e.getFirstName());
+		assertFalse(binder.getHasChanges());
+		assertTrue(binder.isValid());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testRevertUnboundProperty() {
+		binder.setBean(new MyEntity());
+		binder.revertProperty("lastName");
+	}
+
+	@Test
+	public void testListenerRegistrationDuringDispatch() {
+		binder.bind(firstName, e -> e.getFirstName(), (e,f) -> e.setFirstName(f), "firstName", new NullConverter<>(""));
+		binder.setBean(new MyEntity());
+
+		List<String> calls = new ArrayList<>();
+		HasValue.ValueChangeListener<?> second = e -> calls.add("second");
+		Registration[] registrations = new Registration[2];
+		registrations[0] = binder.addValueChangeListener(e -> {
+			calls.add("first");
+			registrations[0].remove();
+			registrations[1] = binder.addValueChangeListener(second);
+		});
+		BinderStatusChangeListener statusChangeListener = mock(BinderStatusChangeListener.class);
+		binder.addStatusChangeListener(statusChangeListener);
+
+		firstName.setValue("John");
+		assertEquals(Arrays.asList("first"), calls);
+		verify(statusChangeListener, times(1)).statusChange(any());
+
+		firstName.setValue("Jane");
+		assertEquals(Arrays.asList("first", "second"), calls);
+
+		registrations[1].remove();
+		firstName.setValue("Joe");
+		assertEquals(2, calls.size());
+	}
+
+	@Test
+	public void testStatusChangeMode() {
+		binder.bind(firstName, e -> e.getFirstName(), (e,f) -> e.setFirstName(f), "firstName", new NullConverter<>(""));
+		binder.bind(age, MyEntity::getAge, MyEntity::setAge, "age", new StringLengthConverterValidator("Must be a number", 1, null).chain(new StringToIntegerConverter("Must be a number")));
+		binder.setBean(new MyEntity());
+		BinderStatusChangeListener statusChangeListener = mock(BinderStatusChangeListener.class);
+		binder.addStatusChangeListener(statusChangeListener);
+		assertEquals(1, binder.getValidationErrorCount());
+		assertEquals(0, binder.getConversionErrorCount());
+
+		// Flags unchanged
+		age.setValue("5");
+		verify(statusChangeListener, never()).statusChange(any());
+
+		age.setValue("nan");
+		assertEquals(1, binder.getConversionErrorCount());
+		verify(statusChangeListener, times(1)).statusChange(assertArg(sc -> {
+			assertTrue(sc.hasConversionErrors());
+			assertTrue(sc.hasValidationErrors());
+		}));
+
+		age.setValue("nan2");
+		verify(statusChangeListener, times(1)).statusChange(any());
+
+		binder.setStatusChangeMode(BasicBinder.StatusChangeMode.EVERY_CHANGE);
+		age.setValue("nan3");
+		verify(statusChangeListener, times(2)).statusChange(any());
+
+		binder.removeBinding(age);
+		assertEquals(0, binder.getConversionErrorCount());
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testBatch() {
+		binder.bind(firstName, e -> e.getFirstName(), (e,f) -> e.setFirstName(f), "firstName", new NullConverter<>(""));
+		binder.bind(lastName, MyEntity::getLastName, MyEntity::setLastName, "lastName", new NullConverter<>(""));
+		binder.bind(age, MyEntity::getAge, MyEntity::setAge, "age", new StringLengthConverterValidator("Must be a number", 1, null).chain(new StringToIntegerConverter("Must be a number")));
+		MyEntity bean = new MyEntity();
+		binder.setBean(bean);
+		BinderStatusChangeListener statusChangeListener = mock(BinderStatusChangeListener.class);
+		HasValue.ValueChangeListener<HasValue.ValueChangeEvent<?>> valueChangeListener = mock(HasValue.ValueChangeListener.class);
+		binder.addStatusChangeListener(statusChangeListener);
+		binder.addValueChangeListener(valueChangeListener);
+		binder.validator = mock(Validator.class, delegatesTo(binder.validator));
+		assertFalse(binder.isValid());
+
+		binder.batch(() -> {
+			firstName.setValue("John");
+			binder.batch(() -> lastName.setValue("Doe"));
+			age.setValue("nan");
+			assertTrue(binder.isBatchInProgress());
+			// Values are written, validation and events are deferred
+			assertEquals("John", bean.getFirstName());
+			verify(binder.validator, never()).validate(any(), anyVararg());
+			verify(statusChangeListener, never()).statusChange(any());
+			verify(valueChangeListener, never()).valueChanged(any());
+		});
+		assertFalse(binder.isBatchInProgress());
+		assertEquals("Doe", bean.getLastName());
+		verify(binder.validator, times(1)).validate(any(), anyVararg());
+		verify(statusChangeListener, times(1)).statusChange(assertArg(sc -> {
+			assertTrue(sc.hasConversionErrors());
+			assertFalse(sc.hasValidationErrors());
+		}));
+		verify(valueChangeListener, times(1)).valueChanged(assertArg(e -> assertSame(lastName, e.getHasValue())));
+		assertEquals(1, binder.getConversionErrorCount());
+		assertTrue(binder.getBinding("age").get().hasConversionError());
+
+		// Empty batch
+		binder.batch(() -> {
+		});
+		verify(statusChangeListener, times(1)).statusChange(any());
+	}
+
 	@Test
 	public void testGetValidationStatusNoError() {
 		binder.bind(firstName, e -> e.getFirstName(), null, "firstName", new NullConverter<>(""));
@@ -378,6 +619,36 @@ public class BasicBinderTest {
 		assertEquals(1, binder.getValidationStatus().getFieldValidationErrors().size());
 	}
 
+	@Test
+	public void testGetValidationStatusSnapshot() {
+		binder.bind(firstName, e -> e.getFirstName(), (e,f) -> e.setFirstName(f), "firstName", new NullConverter<>(""));
+		binder.bind(age, MyEntity::getAge, MyEntity::setAge, "age", new StringLengthConverterValidator("Must be a number", 1, null).chain(new StringToIntegerConverter("Must be a number")));
+		binder.setBean(new MyEntity());
+		// Not built without a status handler
+		assertNull(binder.status);
+
+		BasicBinderValidationStatus<MyEntity> status = binder.getValidationStatus();
+		assertSame(status, binder.getValidationStatus());
+		assertEquals(1, status.getFieldErrorCount());
+		assertEquals(0, status.getBeanErrorCount());
+		assertTrue(status.isFieldError(0));
+		assertFalse(status.isFieldError(1));
+		assertSame(status.getFieldValidationErrors(), status.getFieldValidationErrors());
+		assertEquals(1, status.getValidationErrors().size());
+
+		age.setValue("nan");
+		assertNotSame(status, binder.getValidationStatus());
+		assertEquals(2, binder.getValidationStatus().getFieldErrorCount());
+
+		// The results passed to the status are copied
+		List<ValidationResult> results = new ArrayList<>();
+		results.add(ValidationResult.error("Error"));
+		BasicBinderValidationStatus<MyEntity> copy = new BasicBinderValidationStatus<>(binder, new ArrayList<>(), results);
+		results.clear();
+		assertEquals(1, copy.getBeanValidationResults().size());
+		assertEquals(1, copy.getBeanValidationErrors().size());
+	}
+
 	@Test
 	public void testSetValidationStatusHandler() {
 		@SuppressWarnings("unchecked")
@@ -521,4 +792,354 @@ public class BasicBinderTest {
 		assertFalse(binder.isValid());
 	}
 
+
+	public interface Cheap {
+	}
+
+	public interface Expensive {
+	}
+
+	public static class MyEntityFailFast {
+		@NotNull(groups = Cheap.class)
+		@Size(min = 3, groups = Expensive.class)
+		@Pattern(regexp = "[a-z]*", groups = Expensive.class)
+		String name;
+		@NotNull(groups = Expensive.class)
+		String code;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	@Test
+	public void testFailFastValidation() {
+		TextField name = new TextField();
+		BasicBinder<MyEntityFailFast> binder = new BasicBinder<>();
+		binder.bind(name, d -> d.getName() == null ? "" : d.getName(), (e, f) -> e.setName("".equals(f) ? null : f), "name");
+		binder.setValidationGroups(Expensive.class, Cheap.class);
+		binder.setBean(new MyEntityFailFast());
+		assertEquals(2, binder.getConstraintViolations().size());
+
+		binder.setFailFastValidation(true);
+		assertArrayEquals(new Class<?>[] {Cheap.class, Expensive.class}, binder.getGroupEvaluationOrder());
+		// Only the cheap group is evaluated
+		assertEquals(1, binder.getConstraintViolations().size());
+		assertFalse(binder.isValid());
+
+		name.setValue("AB");
+		assertEquals(2, binder.getConstraintViolations().size());
+		assertTrue(binder.getBinding("name").get().hasValidationError());
+
+		assertFalse(binder.validateAll().isOk());
+		assertEquals(3, binder.getConstraintViolations().size());
+
+		binder.setIncrementalValidation(true);
+		name.setValue("A");
+		assertEquals(2, binder.getConstraintViolations().size());
+		assertTrue(binder.getBinding("name").get().hasValidationError());
+	}
+
+	@Test
+	public void testIncrementalValidation() {
+		binder.setIncrementalValidation(true);
+		binder.bind(firstName, e -> e.getFirstName(), (e,f) -> e.setFirstName(f), "firstName", new NullConverter<>("")).setBeanProperty(true);
+		binder.bind(lastName, MyEntity::getLastName, MyEntity::setLastName, "lastName", new NullConverter<>("")).setBeanProperty(true);
+		binder.bind(age, MyEntity::getAge, MyEntity::setAge, "age", new StringLengthConverterValidator("Must be a number", 1, null).chain(new StringToIntegerConverter("Must be a number"))).setBeanProperty(true);
+
+		binder.setBean(new MyEntity());
+		assertFalse(binder.isValid());
+		assertTrue(binder.getBinding("firstName").get().hasValidationError());
+
+		binder.validator = mock(Validator.class, delegatesTo(binder.validator));
+
+		age.setValue("-11");
+		assertEquals(2, binder.getConstraintViolations().size());
+		assertTrue(binder.getBinding("age").get().hasValidationError());
+
+		firstName.setValue("John");
+		assertEquals(1, binder.getConstraintViolations().size());
+		assertFalse(binder.getBinding("firstName").get().hasValidationError());
+
+		lastName.setValue("Doe");
+		age.setValue("10");
+		assertTrue(binder.isValid());
+		assertFalse(binder.getBinding("age").get().hasValidationError());
+
+		verify(binder.validator, never()).validate(any(), anyVararg());
+	}
+
+	@Test
+	public void testConstraintResultCache() {
+		ConstraintResultCache cache = new ConstraintResultCache(10);
+		binder.setConstraintResultCache(cache);
+		binder.setIncrementalValidation(true);
+		binder.bind(firstName, e -> e.getFirstName(), (e,f) -> e.setFirstName(f), "firstName", new NullConverter<>("")).setBeanProperty(true);
+		binder.bind(age, MyEntity::getAge, MyEntity::setAge, "age", new StringLengthConverterValidator("Must be a number", 1, null).chain(new StringToIntegerConverter("Must be a number"))).setBeanProperty(true);
+		MyEntity bean = new MyEntity();
+		binder.setBean(bean);
+
+		binder.validator = mock(Validator.class, delegatesTo(binder.validator));
+
+		firstName.setValue("John");
+		firstName.setValue("");
+		firstName.setValue("John");
+		firstName.setValue("");
+		assertTrue(binder.getBinding("firstName").get().hasValidationError());
+		// Cached violations are reported for the bean
+		ConstraintViolation<MyEntity> violation = binder.getConstraintViolations().iterator().next();
+		assertSame(bean, violation.getRootBean());
+		assertSame(bean, violation.getLeafBean());
+		assertEquals("firstName", violation.getPropertyPath().toString());
+		age.setValue("-11");
+		age.setValue("10");
+		age.setValue("-11");
+		assertTrue(binder.getBinding("age").get().hasValidationError());
+
+		verify(binder.validator, times(4)).validateValue(any(), any(), any(), anyVararg());
+		verify(binder.validator, never()).validateProperty(any(), any(), anyVararg());
+		assertEquals(3, cache.getHitCount());
+		assertEquals(4, cache.getMissCount());
+		assertEquals(4, cache.size(MyEntity.class));
+
+		cache.evict(MyEntity.class);
+		assertEquals(0, cache.size(MyEntity.class));
+	}
+
+	@Test
+	public void testIncrementalValidationBeanClassLevel() {
+		TextField field1 = new TextField();
+		TextField field2 = new TextField();
+
+		BasicBinder<MyEntityBeanLevel> binder = new BasicBinder<>();
+		binder.setIncrementalValidation(true);
+
+		binder.bind(field1, d -> d.getS1() == null ? "" : d.getS1(), (e, f) -> e.setS1("".equals(f) ? null : f), "s1");
+		binder.bind(field2, d -> d.getS2() == null ? "" : d.getS2(), (e, f) -> e.setS2("".equals(f) ? null : f), "s2");
+
+		binder.setBean(new MyEntityBeanLevel());
+		assertFalse(binder.isValid());
+
+		field2.setValue("Test");
+		assertTrue(binder.isValid());
+	}
+
+
+	@Test
+	public void testUnconstrainedPropertySkipsValidation() {
+		binder.bind(firstName, e -> e.getFirstName(), (e,f) -> e.setFirstName(f), "firstName", new NullConverter<>("")).setBeanProperty(true);
+		binder.bind(lastName, MyEntity::getLastName, MyEntity::setLastName, "lastName", new NullConverter<>("")).setBeanProperty(true);
+		binder.setBean(new MyEntity());
+
+		binder.validator = mock(Validator.class, delegatesTo(binder.validator));
+
+		lastName.setValue("Doe");
+		verify(binder.validator, never()).validate(any(), anyVararg());
+
+		firstName.setValue("John");
+		verify(binder.validator, times(1)).validate(any(), anyVararg());
+		assertTrue(binder.isValid());
+	}
+
+
+	@Test
+	public void testCustomSetterUnderNonPropertyKeyValidates() {
+		binder.setIncrementalValidation(true);
+		binder.bind(firstName, e -> e.getFirstName(), (e,f) -> e.setFirstName(f), "firstName", new NullConverter<>(""));
+		binder.bind(lastName, MyEntity::getLastName, (e, f) -> {
+			e.setLastName(f);
+			e.setFirstName(null);
+		}, "displayName", new NullConverter<>(""));
+		MyEntity bean = new MyEntity();
+		bean.setFirstName("John");
+		binder.setBean(bean);
+		assertTrue(binder.isValid());
+
+		// The setter writes a constrained property the binding key does not name
+		lastName.setValue("Doe");
+		assertFalse(binder.isValid());
+		assertEquals(1, binder.getConstraintViolations().size());
+	}
+
+	@Test
+	public void testValidationBeforeClientResponse() {
+		UI ui = new UI();
+		UI.setCurrent(ui);
+		try {
+			BinderStatusChangeListener statusChangeListener = mock(BinderStatusChangeListener.class);
+			binder.setValidationTiming(BasicBinder.ValidationTiming.BEFORE_CLIENT_RESPONSE);
+			binder.bind(firstName, e -> e.getFirstName(), (e,f) -> e.setFirstName(f), "firstName", new NullConverter<>(""));
+			binder.bind(lastName, MyEntity::getLastName, MyEntity::setLastName, "lastName", new NullConverter<>(""));
+			binder.bind(age, MyEntity::getAge, MyEntity::setAge, "age", new StringLengthConverterValidator("Must be a number", 1, null).chain(new StringToIntegerConverter("Must be a number")));
+			binder.setBean(new MyEntity());
+			binder.addStatusChangeListener(statusChangeListener);
+
+			binder.validator = mock(Validator.class, delegatesTo(binder.validator));
+
+			firstName.setValue("John");
+			lastName.setValue("Doe");
+			age.setValue("10");
+
+			verify(binder.validator, never()).validate(any(), anyVararg());
+			verify(statusChangeListener, never()).statusChange(any());
+			assertTrue(binder.getBinding("firstName").get().hasValidationError());
+
+			ui.getInternals().getStateTree().runExecutionsBeforeClientResponse();
+
+			verify(binder.validator, times(1)).validate(any(), anyVararg());
+			verify(statusChangeListener, times(1)).statusChange(assertArg(sc -> assertFalse(sc.hasValidationErrors())));
+			assertFalse(binder.getBinding("firstName").get().hasValidationError());
+
+			age.setValue("-11");
+			assertFalse(binder.isValid());
+			assertTrue(binder.getBinding("age").get().hasValidationError());
+			verify(binder.validator, times(2)).validate(any(), anyVararg());
+
+			ui.getInternals().getStateTree().runExecutionsBeforeClientResponse();
+			verify(binder.validator, times(2)).validate(any(), anyVararg());
+		} finally {
+			UI.setCurrent(null);
+		}
+	}
+
+	@Test
+	public void testValidationBeforeClientResponseNoUI() {
+		binder.setValidationTiming(BasicBinder.ValidationTiming.BEFORE_CLIENT_RESPONSE);
+		binder.bind(firstName, e -> e.getFirstName(), (e,f) -> e.setFirstName(f), "firstName", new NullConverter<>(""));
+		binder.setBean(new MyEntity());
+		assertFalse(binder.isValid());
+		firstName.setValue("John");
+		assertTrue(binder.getConstraintViolations().isEmpty());
+	}
+
+
+	@Test
+	public void testAsynchronousValidation() {
+		// UI.getCurrent() only holds a weak reference
+		UI ui = new UI();
+		UI.setCurrent(ui);
+		try {
+			List<Runnable> tasks = new ArrayList<>();
+			BasicBinder<MyEntity> binder = new BasicBinder<MyEntity>() {
+				@Override
+				protected void accessUI(UI ui, Command command) {
+					command.execute();
+				}
+			};
+			binder.setValidationTiming(BasicBinder.ValidationTiming.ASYNCHRONOUS);
+			assertSame(ForkJoinPool.commonPool(), binder.getAsyncValidationExecutor());
+			binder.setAsyncValidationExecutor(tasks::add);
+
+			EasyBinding<MyEntity, String, String> binding = binder.bind(firstName, e -> e.getFirstName(), (e,f) -> e.setFirstName(f), "firstName", new NullConverter<>(""));
+			binding.setBeanProperty(true);
+			binder.setBean(new MyEntity());
+			assertFalse(binder.isValid());
+
+			firstName.setValue("John");
+			assertEquals(1, tasks.size());
+			assertTrue(binding.isValidationPending());
+			assertEquals("true", firstName.getElement().getAttribute("aria-busy"));
+			assertFalse(binder.isValid());
+
+			// Second change makes the result of the first one stale
+			firstName.setValue("");
+			assertEquals(2, tasks.size());
+
+			tasks.get(1).run();
+			assertFalse(binding.isValidationPending());
+			assertNull(firstName.getElement().getAttribute("aria-busy"));
+			assertFalse(binder.isValid());
+			assertTrue(binding.hasValidationError());
+
+			tasks.get(0).run();
+			assertFalse(binder.isValid());
+			assertTrue(binding.hasValidationError());
+			assertSame(ui, UI.getCurrent());
+		} finally {
+			UI.setCurrent(null);
+		}
+	}
+
+	@Test
+	public void testAsynchronousValidationFailure() {
+		// UI.getCurrent() only holds a weak reference
+		UI ui = new UI();
+		UI.setCurrent(ui);
+		try {
+			List<Runnable> tasks = new ArrayList<>();
+			BasicBinder<MyEntity> binder = new BasicBinder<MyEntity>() {
+				@Override
+				protected void accessUI(UI ui, Command command) {
+					command.execute();
+				}
+			};
+			binder.setValidationTiming(BasicBinder.ValidationTiming.ASYNCHRONOUS);
+			binder.setAsyncValidationExecutor(tasks::add);
+
+			EasyBinding<MyEntity, String, String> binding = binder.bind(firstName, e -> e.getFirstName(), (e,f) -> e.setFirstName(f), "firstName", new NullConverter<>(""));
+			binding.setBeanProperty(true);
+			binder.setBean(new MyEntity());
+			binder.validator = mock(Validator.class, delegatesTo(binder.validator));
+			doThrow(new ValidationException("Validator failed")).when(binder.validator)
+					.validateValue(any(), any(), any(), anyVararg());
+
+			firstName.setValue("John");
+			assertTrue(binding.isValidationPending());
+			tasks.get(0).run();
+
+			assertFalse(binding.isValidationPending());
+			assertNull(firstName.getElement().getAttribute("aria-busy"));
+			// The last applied result is kept
+			assertFalse(binder.isValid());
+		} finally {
+			UI.setCurrent(null);
+		}
+	}
+
+	@Test
+	public void testAsynchronousValidationBeanSnapshot() {
+		// UI.getCurrent() only holds a weak reference
+		UI ui = new UI();
+		UI.setCurrent(ui);
+		try {
+			List<Runnable> tasks = new ArrayList<>();
+			BasicBinder<MyEntityBeanLevel> binder = new BasicBinder<MyEntityBeanLevel>() {
+				@Override
+				protected void accessUI(UI ui, Command command) {
+					command.execute();
+				}
+			};
+			TextField field1 = new TextField();
+			binder.setValidationTiming(BasicBinder.ValidationTiming.ASYNCHRONOUS);
+			binder.setAsyncValidationExecutor(tasks::add);
+			binder.bind(field1, d -> d.getS1() == null ? "" : d.getS1(), (e, f) -> e.setS1("".equals(f) ? null : f), "s1");
+			binder.setBean(new MyEntityBeanLevel());
+			assertFalse(binder.isValid());
+
+			// No snapshot function, class level constraints are validated synchronously
+			field1.setValue("Test");
+			assertTrue(tasks.isEmpty());
+			assertTrue(binder.isValid());
+
+			binder.setBeanSnapshot(e -> {
+				MyEntityBeanLevel copy = new MyEntityBeanLevel();
+				copy.setS1(e.getS1());
+				copy.setS2(e.getS2());
+				return copy;
+			});
+			field1.setValue("");
+			assertEquals(1, tasks.size());
+			assertTrue(binder.isValid());
+			tasks.get(0).run();
+			assertFalse(binder.isValid());
+			assertSame(ui, UI.getCurrent());
+		} finally {
+			UI.setCurrent(null);
+		}
+	}
+
 }
@@ -0,0 +1,72 @@
+package org.vaadin.easybinder.data;
+
+import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.groups.Default;
+import org.junit.Test;
+import org.vaadin.easybinder.testentity.Flight;
+import org.vaadin.easybinder.testentity.FlightId;
+
+import static org.junit.Assert.*;
+
+public class BeanConstraintIndexTest {
+
+	static class Node {
+		@NotNull
+		String name;
+		String description;
+		@Valid
+		Node parent;
+		@Valid
+		FlightId flightId;
+	}
+
+	Validator validator = ValidatorProvider.getValidator();
+
+	@Test
+	public void testCached() {
+		assertSame(BeanConstraintIndex.get(validator, FlightId.class), BeanConstraintIndex.get(validator, FlightId.class));
+	}
+
+	@Test
+	public void testPropertyLevelConstraints() {
+		BeanConstraintIndex index = BeanConstraintIndex.get(validator, FlightId.class);
+		assertFalse(index.dependsOnAllProperties());
+		assertTrue(index.isConstrained("airline"));
+		assertTrue(index.isConstrained("flightNumber"));
+		assertFalse(index.isConstrained("flightSuffix"));
+		assertTrue(index.isRelevant("airline"));
+		assertFalse(index.isRelevant("flightSuffix"));
+	}
+
+	@Test
+	public void testClassLevelConstraints() {
+		BeanConstraintIndex index = BeanConstraintIndex.get(validator, Flight.class);
+		assertTrue(index.hasClassLevelConstraints());
+		assertTrue(index.hasRedefinedDefaultGroupSequence());
+		assertTrue(index.isCascaded("flightId"));
+		assertTrue(index.isRelevant("canceled"));
+	}
+
+	@Test
+	public void testCascadedProperties() {
+		BeanConstraintIndex index = BeanConstraintIndex.get(validator, Node.class);
+		assertTrue(index.isRelevant("name"));
+		assertFalse(index.isRelevant("description"));
+		assertTrue(index.isRelevant("parent"));
+		assertTrue(index.isRelevant("parent.parent.name"));
+		assertFalse(index.isRelevant("parent.description"));
+		assertTrue(index.isRelevant("flightId.airline"));
+		assertFalse(index.isRelevant("flightId.flightSuffix"));
+		assertFalse(index.isRelevant("description.length"));
+	}
+
+	@Test
+	public void testEvaluationCost() {
+		BeanConstraintIndex index = BeanConstraintIndex.get(validator, BasicBinderTest.MyEntityFailFast.class);
+		assertEquals(1, index.getEvaluationCost(BasicBinderTest.Cheap.class));
+		assertEquals(3, index.getEvaluationCost(BasicBinderTest.Expensive.class));
+		assertEquals(0, index.getEvaluationCost(Default.class));
+	}
+}
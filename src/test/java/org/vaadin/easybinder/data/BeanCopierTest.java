@@ -0,0 +1,148 @@
+package org.vaadin.easybinder.data;
+
+import com.vaadin.flow.component.textfield.TextField;
+import org.junit.Test;
+import org.vaadin.easybinder.data.BeanCopier.PropertyAccessor;
+import org.vaadin.easybinder.testentity.Flight;
+import org.vaadin.easybinder.testentity.FlightId;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import static org.junit.Assert.*;
+
+public class BeanCopierTest {
+
+	public static class ReadOnly {
+		public String getName() {
+			return "name";
+		}
+	}
+
+	public static class NoDefaultConstructor {
+		public NoDefaultConstructor(String name) {
+		}
+	}
+
+	BeanCopier<Flight> copier = BeanCopier.get(Flight.class);
+
+	@Test
+	public void testCached() {
+		assertSame(copier, BeanCopier.get(Flight.class));
+		assertSame(copier.getAccessor("gate").get(), copier.getAccessor("gate").get());
+	}
+
+	@Test
+	public void testNewInstance() {
+		assertNotNull(copier.newInstance());
+		assertNotSame(copier.newInstance(), copier.newInstance());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testNewInstanceNoConstructor() {
+		BeanCopier.get(NoDefaultConstructor.class).newInstance();
+	}
+
+	@Test
+	public void testAccessor() {
+		Flight flight = new Flight();
+		PropertyAccessor gate = copier.getAccessor("gate").get();
+		gate.set(flight, "A1");
+		assertEquals("A1", flight.getGate());
+		assertEquals("A1", gate.get(flight));
+
+		PropertyAccessor canceled = copier.getAccessor("canceled").get();
+		canceled.set(flight, true);
+		assertEquals(Boolean.TRUE, canceled.get(flight));
+
+		assertTrue(gate.isGenerated());
+		assertTrue(canceled.isGenerated());
+		// Methods of java.base cannot be linked to, falls back to a method handle
+		PropertyAccessor type = copier.getAccessor("class").get();
+		assertFalse(type.isGenerated());
+		assertEquals(Flight.class, type.get(flight));
+
+		assertFalse(copier.getAccessor("unknown").isPresent());
+		assertFalse(copier.getAccessor("flightId.unknown").isPresent());
+		assertTrue(BeanCopier.get(ReadOnly.class).getAccessor("name").get().isReadOnly());
+	}
+
+	@Test
+	public void testPackagePrivateBean() throws ClassNotFoundException {
+		BeanCopier<?> terminalCopier = BeanCopier.get(Class.forName("org.vaadin.easybinder.testentity.Terminal"));
+		Object terminal = terminalCopier.newInstance();
+		PropertyAccessor name = terminalCopier.getAccessor("name").get();
+		name.set(terminal, "T1");
+		assertEquals("T1", name.get(terminal));
+		// The package is open on the class path, so no fallback is needed
+		assertTrue(name.isGenerated());
+
+		// Object is in java.base, which does not open java.lang
+		PropertyAccessor type = terminalCopier.getAccessor("class").get();
+		assertFalse(type.isGenerated());
+		assertEquals(terminal.getClass(), type.get(terminal));
+	}
+
+	@Test
+	public void testNestedAccessor() {
+		Flight flight = new Flight();
+		flight.setFlightId(new FlightId());
+		PropertyAccessor airline = copier.getAccessor("flightId.airline").get();
+		airline.set(flight, "XX");
+		assertEquals("XX", flight.getFlightId().getAirline());
+		assertEquals("XX", airline.get(flight));
+
+		// Null parent is neither read nor written
+		flight.setFlightId(null);
+		assertNull(airline.get(flight));
+		airline.set(flight, "YY");
+		assertNull(flight.getFlightId());
+	}
+
+	@Test
+	public void testPropertyReference() throws Exception {
+		Flight flight = new Flight();
+		BeanCopier.PropertyReference<Flight> gate = copier.getPropertyReference("gate").get();
+		gate.accept(flight, "A1");
+		assertEquals("A1", gate.apply(flight));
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(gate);
+		}
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			@SuppressWarnings("unchecked")
+			BeanCopier.PropertyReference<Flight> copy = (BeanCopier.PropertyReference<Flight>) in.readObject();
+			assertEquals("A1", copy.apply(flight));
+		}
+	}
+
+	@Test
+	public void testCopyPlan() {
+		BasicBinder<Flight> binder = new BasicBinder<>();
+		BasicBinder.EasyBinding<Flight, String, String> gate = binder.bind(new TextField(), Flight::getGate, Flight::setGate, "gate");
+		binder.bind(new TextField(), Flight::getGate, null, "gate");
+		BasicBinder.EasyBinding<Flight, String, String> custom = binder.bind(new TextField(), e -> e.getFlightId().getAirline(),
+				(e, v) -> e.getFlightId().setAirline(v + "!"), "flightId.airline");
+
+		Flight source = new Flight();
+		source.setFlightId(new FlightId());
+		source.setGate("A1");
+		source.getFlightId().setAirline("XX");
+		Flight target = new Flight();
+		target.setFlightId(new FlightId());
+
+		BeanCopier.CopyPlan<Flight> plan = copier.createCopyPlan(binder.getBindings(), e -> e == gate);
+		assertEquals(2, plan.accessors.length);
+		assertNotNull(plan.accessors[0]);
+		// Bindings with custom getters and setters are copied by the binding
+		assertNull(plan.accessors[1]);
+		assertSame(custom, plan.bindings[1]);
+
+		plan.copy(source, target);
+		assertEquals("A1", target.getGate());
+		assertEquals("XX!", target.getFlightId().getAirline());
+	}
+}
@@ -0,0 +1,199 @@
+package org.vaadin.easybinder.data;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.HasValue;
+import com.vaadin.flow.component.checkbox.Checkbox;
+import com.vaadin.flow.component.datepicker.DatePicker;
+import com.vaadin.flow.component.textfield.TextField;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.junit.Test;
+import org.vaadin.easybinder.testentity.Flight;
+import org.vaadin.easybinder.ui.EComboBox;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class BeanMetadataTest {
+
+	public enum Status {
+		OPEN, CLOSED
+	}
+
+	public static class Base {
+		LocalDate created;
+
+		public LocalDate getCreated() {
+			return created;
+		}
+
+		public void setCreated(LocalDate created) {
+			this.created = created;
+		}
+	}
+
+	@EasyBindable
+	public static class Booking extends Base {
+		static int count;
+
+		@NotNull
+		String name;
+		@Min(1)
+		int seats;
+		boolean confirmed;
+		Status status;
+		List<String> tags;
+		String code = "X";
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getSeats() {
+			return seats;
+		}
+
+		public void setSeats(int seats) {
+			this.seats = seats;
+		}
+
+		public boolean isConfirmed() {
+			return confirmed;
+		}
+
+		public void setConfirmed(boolean confirmed) {
+			this.confirmed = confirmed;
+		}
+
+		public Status getStatus() {
+			return status;
+		}
+
+		public void setStatus(Status status) {
+			this.status = status;
+		}
+
+		public List<String> getTags() {
+			return tags;
+		}
+
+		public void setTags(List<String> tags) {
+			this.tags = tags;
+		}
+
+		public String getCode() {
+			return code;
+		}
+	}
+
+	@EasyBindable
+	public static class NoGetter {
+		String hidden;
+	}
+
+	BeanMetadata<Booking> metadata = BeanMetadata.get(Booking.class).get();
+
+	@Test
+	public void testGenerated() {
+		assertSame(metadata, BeanMetadata.get(Booking.class).get());
+		assertEquals(Booking.class, metadata.getBeanClass());
+		assertEquals(Arrays.asList("name", "seats", "confirmed", "status", "tags", "code", "created"),
+				metadata.getProperties().stream().map(BeanMetadata.Property::getName).collect(Collectors.toList()));
+		assertEquals(int.class, metadata.getProperty("seats").get().getType());
+		assertFalse(metadata.getProperty("count").isPresent());
+
+		assertNull(metadata.getProperty("code").get().getSetter());
+		assertNull(BeanMetadata.get(NoGetter.class).get().getProperty("hidden").get().getGetter());
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testAccessors() {
+		Booking booking = new Booking();
+		BeanMetadata.Property<Booking, Object> seats = (BeanMetadata.Property<Booking, Object>) metadata
+				.getProperty("seats").get();
+		seats.getSetter().accept(booking, 3);
+		assertEquals(3, booking.getSeats());
+		assertEquals(3, seats.getGetter().apply(booking));
+
+		BeanMetadata.Property<Booking, Object> created = (BeanMetadata.Property<Booking, Object>) metadata
+				.getProperty("created").get();
+		created.getSetter().accept(booking, LocalDate.of(2017, 1, 1));
+		assertEquals(LocalDate.of(2017, 1, 1), booking.getCreated());
+	}
+
+	@Test
+	public void testNotGenerated() {
+		assertFalse(BeanMetadata.get(Flight.class).isPresent());
+		assertFalse(BeanMetadata.get(String.class).isPresent());
+		assertFalse(BeanMetadata.get(int.class).isPresent());
+		assertEquals("org.vaadin.easybinder.data.BeanMetadataTest_Booking_BeanMetadata",
+				BeanMetadata.getDescriptorName(Booking.class));
+	}
+
+	@Test
+	public void testBind() {
+		ReflectionBinder<Booking> binder = new ReflectionBinder<>(Booking.class);
+		TextField name = new TextField();
+		TextField seats = new TextField();
+		TextField code = new TextField();
+		binder.bind(name, "name");
+		binder.bind(seats, "seats");
+		binder.bind(code, "code");
+		// Required indicators follow the configurator of the binder, as for reflected properties
+		assertFalse(name.isRequiredIndicatorVisible());
+		assertTrue(seats.isRequiredIndicatorVisible());
+		assertFalse(code.isRequiredIndicatorVisible());
+		assertTrue(binder.getBindingPlan("name").generated);
+		assertSame(metadata.getProperty("name").get().getGetter(), binder.getBindingPlan("name").getter);
+		// Nested properties are resolved by reflection
+		assertFalse(binder.getBindingPlan("created.year").generated);
+
+		Booking booking = new Booking();
+		booking.setSeats(1);
+		binder.setBean(booking);
+		assertFalse(binder.isValid());
+		name.setValue("Alice");
+		assertEquals("Alice", booking.getName());
+		assertTrue(binder.isValid());
+	}
+
+	@Test
+	public void testBindCustomConfigurator() {
+		ReflectionBinder<Booking> binder = new ReflectionBinder<>(Booking.class);
+		binder.setRequiredConfigurator((annotation, bindingBuilder) -> annotation instanceof Min);
+		TextField name = new TextField();
+		TextField seats = new TextField();
+		binder.bind(name, "name");
+		binder.bind(seats, "seats");
+		assertFalse(name.isRequiredIndicatorVisible());
+		assertTrue(seats.isRequiredIndicatorVisible());
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testBuildAndBind() {
+		AutoBinder<Booking> binder = new AutoBinder<>(Booking.class);
+		Component[] components = binder.buildAndBind();
+		assertEquals(7, components.length);
+		assertTrue(components[0] instanceof TextField);
+		assertTrue(components[2] instanceof Checkbox);
+		assertTrue(components[3] instanceof EComboBox);
+		assertTrue(components[6] instanceof DatePicker);
+		assertEquals("Created", ((DatePicker) components[6]).getLabel());
+
+		Booking booking = new Booking();
+		binder.setBean(booking);
+		assertEquals("X", ((HasValue<?, String>) binder.getFieldForProperty("code").get()).getValue());
+		((HasValue<?, String>) binder.getFieldForProperty("seats").get()).setValue("2");
+		assertEquals(2, booking.getSeats());
+	}
+}
@@ -4,6 +4,7 @@ import com.vaadin.flow.component.textfield.TextField;
 import com.vaadin.flow.data.binder.StatusChangeListener;
 import com.vaadin.flow.data.binder.ValidationException;
 import com.vaadin.flow.data.converter.StringToIntegerConverter;
+import jakarta.validation.Validator;
 import org.junit.Test;
 import org.vaadin.easybinder.data.BasicBinder.EasyBinding;
 import org.vaadin.easybinder.testentity.Flight;
@@ -15,6 +16,7 @@ import java.util.Date;
 
 import static info.solidsoft.mockito.java8.AssertionMatcher.assertArg;
 import static org.junit.Assert.*;
+import static org.mockito.AdditionalAnswers.delegatesTo;
 import static org.mockito.Mockito.*;
 
 public class BinderAdapterTest {
@@ -75,6 +77,37 @@ public class BinderAdapterTest {
 		}
 	}
 
+	@Test
+	public void testWriteBeanDoesNotReloadFields() throws ValidationException {
+		AutoBinder<Flight> binder = new AutoBinder<>(Flight.class);
+		BinderAdapter<Flight> adapter = new BinderAdapter<>(binder, Flight.class);
+		binder.buildAndBind("flightId");
+
+		Flight f1 = new Flight();
+		FlightId id1 = new FlightId();
+		id1.setDate(new Date());
+		id1.setAirline("XX");
+		id1.setFlightNumber(999);
+		id1.setLegType(LegType.DEPARTURE);
+		f1.setFlightId(id1);
+		adapter.readBean(f1);
+		TextField field = (TextField) binder.getFieldForProperty("flightId.airline").get();
+		field.setValue("YY");
+		assertTrue(adapter.hasChanges());
+		assertTrue(binder.isValid());
+
+		StatusChangeListener statusChangeListener = mock(StatusChangeListener.class);
+		adapter.addStatusChangeListener(statusChangeListener);
+		binder.validator = mock(Validator.class, delegatesTo(binder.validator));
+		Flight f2 = new Flight();
+		adapter.writeBean(f2);
+
+		assertEquals("YY", f2.getFlightId().getAirline());
+		assertFalse(adapter.hasChanges());
+		verify(binder.validator, never()).validate(any(), anyVararg());
+		verify(statusChangeListener, times(1)).statusChange(assertArg(sc -> assertFalse(sc.hasValidationErrors())));
+	}
+
 	@Test
 	public void testReadWriteBeanEmptySetter() throws ValidationException {
 		@SuppressWarnings("unchecked")
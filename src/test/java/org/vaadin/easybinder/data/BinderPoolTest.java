@@ -0,0 +1,74 @@
+package org.vaadin.easybinder.data;
+
+import com.vaadin.flow.component.HasValue;
+import org.junit.Test;
+import org.vaadin.easybinder.data.AutoBinderTest.MyEntity;
+
+import static org.junit.Assert.*;
+
+public class BinderPoolTest {
+
+	BinderPool<MyEntity, AutoBinder<MyEntity>> pool = new BinderPool<>(() -> {
+		AutoBinder<MyEntity> binder = new AutoBinder<>(MyEntity.class);
+		binder.buildAndBind();
+		return binder;
+	}, 2);
+
+	@SuppressWarnings("unchecked")
+	private HasValue<?, String> getStreetField(AutoBinder<MyEntity> binder) {
+		return (HasValue<?, String>) binder.getFieldForProperty("street").get();
+	}
+
+	@Test
+	public void testAcquireRelease() {
+		MyEntity e1 = new MyEntity();
+		e1.setStreet("street1");
+		MyEntity e2 = new MyEntity();
+		e2.setStreet("street2");
+
+		AutoBinder<MyEntity> binder = pool.acquire(e1);
+		assertEquals(1, pool.getCreatedCount());
+		assertSame(e1, binder.getBean());
+		assertEquals("street1", getStreetField(binder).getValue());
+		HasValue<?, String> field = getStreetField(binder);
+
+		pool.release(binder);
+		assertNull(binder.getBean());
+		assertEquals(1, pool.getIdleCount());
+
+		// Bindings are reused
+		assertSame(binder, pool.acquire(e2));
+		assertEquals(1, pool.getCreatedCount());
+		assertEquals(0, pool.getIdleCount());
+		assertSame(field, getStreetField(binder));
+		assertEquals("street2", field.getValue());
+		getStreetField(binder).setValue("changed");
+		assertEquals("changed", e2.getStreet());
+		assertEquals("street1", e1.getStreet());
+	}
+
+	@Test
+	public void testWarmUp() {
+		pool.warmUp(5);
+		assertEquals(2, pool.getIdleCount());
+		assertEquals(2, pool.getCreatedCount());
+
+		AutoBinder<MyEntity> b1 = pool.acquire(new MyEntity());
+		AutoBinder<MyEntity> b2 = pool.acquire(new MyEntity());
+		AutoBinder<MyEntity> b3 = pool.acquire(new MyEntity());
+		assertEquals(3, pool.getCreatedCount());
+		pool.release(b1);
+		pool.release(b2);
+		pool.release(b2);
+		pool.release(b3);
+		assertEquals(2, pool.getIdleCount());
+
+		pool.clear();
+		assertEquals(0, pool.getIdleCount());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativeMaxIdle() {
+		new BinderPool<MyEntity, AutoBinder<MyEntity>>(() -> new AutoBinder<>(MyEntity.class), -1);
+	}
+}
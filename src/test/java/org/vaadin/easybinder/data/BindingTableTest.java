@@ -0,0 +1,113 @@
+package org.vaadin.easybinder.data;
+
+import com.vaadin.flow.component.textfield.TextField;
+import org.junit.Test;
+import org.vaadin.easybinder.data.BasicBinder.EasyBinding;
+import org.vaadin.easybinder.data.converters.NullConverter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class BindingTableTest {
+
+	BasicBinder<Object> binder = new BasicBinder<>();
+
+	private EasyBinding<Object, String, String> createBinding(String property) {
+		return new EasyBinding<>(binder, new TextField(), e -> "", (e, v) -> {
+		}, property, new NullConverter<>(""));
+	}
+
+	@Test
+	public void testLookup() {
+		BindingTable<Object> table = new BindingTable<>();
+		EasyBinding<Object, String, String> a = createBinding("a");
+		EasyBinding<Object, String, String> b = createBinding(null);
+		table.add(a);
+		table.add(b);
+
+		assertEquals(2, table.size());
+		assertSame(a, table.get("a"));
+		assertSame(a, table.get(a.getField()));
+		assertSame(b, table.get(b.getField()));
+		assertTrue(table.containsProperty("a"));
+
+		assertTrue(table.remove(a));
+		assertFalse(table.remove(a));
+		assertNull(table.get("a"));
+		assertNull(table.get(a.getField()));
+		assertEquals(1, table.size());
+	}
+
+	@Test
+	public void testReplaceProperty() {
+		BindingTable<Object> table = new BindingTable<>();
+		EasyBinding<Object, String, String> a1 = createBinding("a");
+		EasyBinding<Object, String, String> a2 = createBinding("a");
+		table.add(a1);
+		table.add(a2);
+		assertSame(a2, table.get("a"));
+		table.remove(a1);
+		assertSame(a2, table.get("a"));
+	}
+
+	@Test
+	public void testOrderAndCompaction() {
+		BindingTable<Object> table = new BindingTable<>();
+		List<EasyBinding<Object, String, String>> all = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			EasyBinding<Object, String, String> binding = createBinding("p" + i);
+			all.add(binding);
+			table.add(binding);
+		}
+		List<EasyBinding<Object, String, String>> kept = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			if (i % 3 == 0) {
+				kept.add(all.get(i));
+			} else {
+				table.remove(all.get(i));
+			}
+		}
+
+		assertEquals(kept, table.asList());
+		assertEquals(kept.size(), table.getSlotCount());
+		for (int i = 0; i < kept.size(); i++) {
+			assertEquals(i, kept.get(i).slot);
+		}
+
+		List<EasyBinding<Object, ?, ?>> removed = table.clear();
+		assertEquals(kept, removed);
+		assertTrue(table.isEmpty());
+		assertEquals(-1, kept.get(0).slot);
+	}
+
+	@Test
+	public void testDirtyAcrossCompaction() {
+		BindingTable<Object> table = new BindingTable<>();
+		List<EasyBinding<Object, String, String>> all = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			EasyBinding<Object, String, String> binding = createBinding("p" + i);
+			all.add(binding);
+			table.add(binding);
+		}
+		table.setDirty(all.get(2), true);
+		table.setDirty(all.get(8), true);
+		for (int i = 0; i < 7; i++) {
+			if (i != 2) {
+				table.remove(all.get(i));
+			}
+		}
+
+		assertTrue(table.isDirty(all.get(2)));
+		assertTrue(table.isDirty(all.get(8)));
+		assertFalse(table.isDirty(all.get(7)));
+		assertEquals(Arrays.asList(all.get(2), all.get(8)), table.getDirty());
+
+		table.remove(all.get(8));
+		assertEquals(Arrays.asList(all.get(2)), table.getDirty());
+		table.clearDirty();
+		assertFalse(table.hasDirty());
+	}
+}
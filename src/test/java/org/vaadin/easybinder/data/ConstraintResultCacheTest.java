@@ -0,0 +1,118 @@
+package org.vaadin.easybinder.data;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Payload;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import org.junit.Test;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.Assert.*;
+
+public class ConstraintResultCacheTest {
+
+	@Target({FIELD})
+	@Retention(RUNTIME)
+	@Constraint(validatedBy = LowerCaseValidator.class)
+	public @interface LowerCase {
+		String message() default "Must be lower case";
+
+		Class<?>[] groups() default {};
+
+		Class<? extends Payload>[] payload() default {};
+	}
+
+	public static class LowerCaseValidator implements ConstraintValidator<LowerCase, String> {
+		@Override
+		public boolean isValid(String value, ConstraintValidatorContext context) {
+			return value == null || value.equals(value.toLowerCase());
+		}
+	}
+
+	public static class MyEntity {
+		@NotNull
+		@Size(min = 2)
+		String name;
+		@Future
+		LocalDate date;
+		@LowerCase
+		String custom;
+		List<@NotNull String> tags = new ArrayList<>();
+		String unconstrained;
+	}
+
+	Validator validator = ValidatorProvider.getValidator();
+
+	@Test
+	public void testCacheable() {
+		ConstraintResultCache cache = new ConstraintResultCache(10);
+		assertTrue(cache.isCacheable(validator, MyEntity.class, "name"));
+		assertTrue(cache.isCacheable(validator, MyEntity.class, "unconstrained"));
+		assertFalse(cache.isCacheable(validator, MyEntity.class, "date"));
+		assertFalse(cache.isCacheable(validator, MyEntity.class, "custom"));
+		assertFalse(cache.isCacheable(validator, MyEntity.class, "tags"));
+
+		cache.addPureConstraint(LowerCase.class);
+		assertTrue(cache.isCacheable(validator, MyEntity.class, "custom"));
+	}
+
+	@Test
+	public void testCacheableValue() {
+		assertTrue(ConstraintResultCache.isCacheableValue(null));
+		assertTrue(ConstraintResultCache.isCacheableValue("a"));
+		assertTrue(ConstraintResultCache.isCacheableValue(1));
+		assertTrue(ConstraintResultCache.isCacheableValue(LocalDate.now()));
+		assertFalse(ConstraintResultCache.isCacheableValue(new Date()));
+		assertFalse(ConstraintResultCache.isCacheableValue(new ArrayList<>()));
+	}
+
+	@Test
+	public void testLeastRecentlyUsedEviction() {
+		ConstraintResultCache cache = new ConstraintResultCache(2);
+		Class<?>[] groups = new Class<?>[0];
+		Set<ConstraintViolation<MyEntity>> violations = validator.validateValue(MyEntity.class, "name", "a");
+		cache.put(validator, MyEntity.class, "name", "a", groups, false, violations);
+		cache.put(validator, MyEntity.class, "name", "ab", groups, false, validator.validateValue(MyEntity.class, "name", "ab"));
+		assertEquals(violations, cache.get(validator, MyEntity.class, "name", "a", groups, false));
+		cache.put(validator, MyEntity.class, "name", "abc", groups, false, validator.validateValue(MyEntity.class, "name", "abc"));
+
+		assertEquals(2, cache.size(MyEntity.class));
+		assertNotNull(cache.get(validator, MyEntity.class, "name", "a", groups, false));
+		assertNull(cache.get(validator, MyEntity.class, "name", "ab", groups, false));
+		assertNull(cache.get(validator, MyEntity.class, "name", "a", groups, true));
+		assertEquals(2, cache.getHitCount());
+		assertEquals(2, cache.getMissCount());
+
+		cache.clear();
+		assertEquals(0, cache.size(MyEntity.class));
+		assertEquals(0, cache.getHitCount());
+	}
+
+	@Test
+	public void testKeyedByValidator() {
+		ConstraintResultCache cache = new ConstraintResultCache(10);
+		Validator other = Validation.buildDefaultValidatorFactory().getValidator();
+		Class<?>[] groups = new Class<?>[0];
+		cache.put(validator, MyEntity.class, "name", "a", groups, false,
+				validator.validateValue(MyEntity.class, "name", "a"));
+
+		assertNotNull(cache.get(validator, MyEntity.class, "name", "a", groups, false));
+		assertNull(cache.get(other, MyEntity.class, "name", "a", groups, false));
+		assertTrue(cache.isCacheable(other, MyEntity.class, "name"));
+	}
+}
@@ -0,0 +1,61 @@
+package org.vaadin.easybinder.data;
+
+import jakarta.persistence.Temporal;
+import jakarta.persistence.TemporalType;
+import jakarta.validation.constraints.NotNull;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.Date;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class FieldIndexTest {
+
+	public static class Parent {
+		@NotNull
+		String name;
+		int shadowed;
+	}
+
+	public static class Child extends Parent {
+		@Temporal(TemporalType.TIMESTAMP)
+		Date created;
+		String shadowed;
+	}
+
+	FieldIndex index = FieldIndex.get(Child.class);
+
+	@Test
+	public void testCached() {
+		assertSame(index, FieldIndex.get(Child.class));
+		assertNotSame(index, FieldIndex.get(Parent.class));
+	}
+
+	@Test
+	public void testGetField() throws NoSuchFieldException {
+		assertEquals(Parent.class.getDeclaredField("name"), index.getField("name").get());
+		assertEquals(Child.class.getDeclaredField("created"), index.getField("created").get());
+		assertFalse(index.getField("unknown").isPresent());
+		// The field closest to the class hides fields of super classes
+		assertEquals(String.class, index.getField("shadowed").get().getType());
+		assertEquals(int.class, FieldIndex.get(Parent.class).getField("shadowed").get().getType());
+	}
+
+	@Test
+	public void testGetFields() {
+		assertEquals("created,shadowed,name,shadowed",
+				index.getFields().stream().map(Field::getName).collect(Collectors.joining(",")));
+	}
+
+	@Test
+	public void testGetAnnotations() {
+		assertEquals(1, index.getAnnotations("name").length);
+		assertSame(index.getAnnotations("name"), index.getAnnotations("name"));
+		assertEquals(0, index.getAnnotations("shadowed").length);
+		assertEquals(0, index.getAnnotations("unknown").length);
+		assertEquals(TemporalType.TIMESTAMP, index.getAnnotation("created", Temporal.class).get().value());
+		assertFalse(index.getAnnotation("created", NotNull.class).isPresent());
+	}
+}
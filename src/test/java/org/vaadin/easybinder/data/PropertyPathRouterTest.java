@@ -0,0 +1,112 @@
+package org.vaadin.easybinder.data;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Path;
+import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import org.junit.Test;
+import org.vaadin.easybinder.data.BasicBinderTest.MyEntityBeanLevel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class PropertyPathRouterTest {
+
+	public static class Item {
+		@NotNull
+		String name;
+
+		Item(String name) {
+			this.name = name;
+		}
+	}
+
+	public static class Order {
+		@NotNull
+		String customer = "customer";
+		@Valid
+		List<Item> items = new ArrayList<>();
+		List<@NotNull String> tags = new ArrayList<>();
+		boolean consistent = true;
+
+		@AssertTrue
+		public boolean isValidOrder() {
+			return consistent;
+		}
+	}
+
+	Validator validator = ValidatorProvider.getValidator();
+
+	private Path pathOf(Order order) {
+		List<ConstraintViolation<Order>> violations = new ArrayList<>(validator.validate(order));
+		assertEquals(1, violations.size());
+		return violations.get(0).getPropertyPath();
+	}
+
+	@Test
+	public void testRouteProperty() {
+		PropertyPathRouter<String> router = new PropertyPathRouter<>();
+		router.put("customer", "c");
+		Order order = new Order();
+		order.customer = null;
+		assertEquals("c", router.route(pathOf(order)));
+		assertFalse(PropertyPathRouter.isBeanPath(pathOf(order)));
+	}
+
+	@Test
+	public void testRouteIndexed() {
+		PropertyPathRouter<String> router = new PropertyPathRouter<>();
+		Order order = new Order();
+		order.items.add(new Item("a"));
+		order.items.add(new Item(null));
+		Path path = pathOf(order);
+		assertEquals("items[1].name", path.toString());
+
+		assertNull(router.route(path));
+		router.put("items", "items");
+		assertEquals("items", router.route(path));
+		router.put("items.name", "name");
+		assertEquals("name", router.route(path));
+		router.remove("items.name");
+		assertEquals("items", router.route(path));
+		router.remove("items");
+		assertNull(router.route(path));
+	}
+
+	@Test
+	public void testRouteContainerElement() {
+		PropertyPathRouter<String> router = new PropertyPathRouter<>();
+		router.put("tags", "tags");
+		Order order = new Order();
+		order.tags.add(null);
+		assertEquals("tags", router.route(pathOf(order)));
+	}
+
+	@Test
+	public void testGetterPath() {
+		PropertyPathRouter<String> router = new PropertyPathRouter<>();
+		router.put("validOrder", "v");
+		Order order = new Order();
+		order.consistent = false;
+		Path path = pathOf(order);
+		assertFalse(PropertyPathRouter.isBeanPath(path));
+		assertEquals("v", router.route(path));
+	}
+
+	@Test
+	public void testBeanPath() {
+		PropertyPathRouter<String> router = new PropertyPathRouter<>();
+		router.put("s1", "s1");
+		Set<ConstraintViolation<MyEntityBeanLevel>> violations = validator.validate(new MyEntityBeanLevel());
+		assertFalse(violations.isEmpty());
+		for (ConstraintViolation<MyEntityBeanLevel> v : violations) {
+			assertTrue(PropertyPathRouter.isBeanPath(v.getPropertyPath()));
+			assertNull(router.route(v.getPropertyPath()));
+		}
+	}
+}
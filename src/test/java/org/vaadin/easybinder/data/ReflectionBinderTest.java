@@ -163,6 +163,18 @@ public class ReflectionBinderTest {
 		assertEquals(TestEnum.class, binder.getPresentationTypeForField(r).get());
 	}
 
+	@Test
+	public void testGetFieldTypeResolvedPerInstanceForGenericField() {
+		RadioButtonGroup<TestEnum> r1 = new RadioButtonGroup<TestEnum>();
+		r1.setValue(TestEnum.Test1);
+		RadioButtonGroup<String> r2 = new RadioButtonGroup<String>();
+		r2.setValue("value");
+		assertEquals(TestEnum.class, binder.getPresentationTypeForField(r1).get());
+		assertEquals(String.class, binder.getPresentationTypeForField(r2).get());
+		assertEquals(String.class, binder.getPresentationTypeForField(new TextField()).get());
+		assertEquals(String.class, binder.getPresentationTypeForField(new TextField()).get());
+	}
+
 	@Test
 	public void testGetFieldTypeForGenericFieldWithItems() {
 		EnumSet<TestEnum> set = EnumSet.allOf(TestEnum.class);
@@ -466,4 +478,40 @@ public class ReflectionBinderTest {
 		verify(field, times(1)).setRequiredIndicatorVisible(true);
 	}
 
+	@Test
+	public void testCopyProperties() {
+		binder.bind(new TextField(), "testString");
+		TestEntity source = new TestEntity();
+		source.setTestString("a");
+		source.setTestInt(1);
+		TestEntity target = new TestEntity();
+		binder.copyProperties(source, target);
+		assertEquals("a", target.getTestString());
+		assertEquals(0, target.getTestInt());
+
+		// Copy plan is rebuilt when bindings change
+		binder.bind(new TextField(), "testInt", new StringToIntegerConverter(""));
+		binder.copyProperties(source, target);
+		assertEquals(1, target.getTestInt());
+		binder.removeBinding("testString");
+		source.setTestString("b");
+		binder.copyProperties(source, target);
+		assertEquals("a", target.getTestString());
+	}
+
+	@Test
+	public void testBindingPlanShared() {
+		ReflectionBinder<TestEntity> other = new ReflectionBinder<>(TestEntity.class);
+		assertSame(binder.getBindingPlan("testIntMin1"), other.getBindingPlan("testIntMin1"));
+		assertEquals(int.class, binder.getBindingPlan("testIntMin1").modelType);
+		assertTrue(binder.getBindingPlan("testIntMin1").isRequired(binder.getRequiredConfigurator()));
+		assertFalse(binder.getBindingPlan("testIntMin0").isRequired(binder.getRequiredConfigurator()));
+		assertFalse(binder.getBindingPlan("testIntMin1").isRequired(null));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testBindingPlanUnknownProperty() {
+		binder.getBindingPlan("unknown");
+	}
+
 }
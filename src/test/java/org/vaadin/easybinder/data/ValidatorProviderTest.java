@@ -0,0 +1,85 @@
+package org.vaadin.easybinder.data;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import org.junit.Test;
+
+import java.util.Locale;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class ValidatorProviderTest {
+
+	static class TestEntity {
+	}
+
+	static class ConstrainedEntity {
+		@Size(min = 2)
+		@Pattern(regexp = "[0-9]*")
+		String code = "a";
+	}
+
+	@Test
+	public void testSharedValidator() {
+		assertSame(ValidatorProvider.getValidatorFactory(), ValidatorProvider.getValidatorFactory());
+		assertSame(ValidatorProvider.getValidator(), ValidatorProvider.getValidator());
+
+		BasicBinder<TestEntity> binder1 = new BasicBinder<>();
+		BasicBinder<TestEntity> binder2 = new ReflectionBinder<>(TestEntity.class);
+		assertSame(ValidatorProvider.getValidator(), binder1.validator);
+		assertSame(binder1.validator, binder2.validator);
+	}
+
+	@Test
+	public void testInjectedValidator() {
+		ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+		Validator validator = factory.getValidator();
+
+		assertSame(validator, new BasicBinder<TestEntity>(validator).validator);
+		assertSame(validator, new AutoBinder<>(TestEntity.class, validator).validator);
+		assertNotSame(ValidatorProvider.getValidator(), new BasicBinder<TestEntity>(factory).validator);
+	}
+
+	@Test
+	public void testFailFastValidatorFromFactory() {
+		ValidatorFactory original = ValidatorProvider.getValidatorFactory();
+		ValidatorFactory factory = Validation.byDefaultProvider().configure()
+				.messageInterpolator(new MessageInterpolator() {
+					@Override
+					public String interpolate(String messageTemplate, Context context) {
+						return "custom";
+					}
+
+					@Override
+					public String interpolate(String messageTemplate, Context context, Locale locale) {
+						return "custom";
+					}
+				}).buildValidatorFactory();
+		try {
+			Validator failFast = ValidatorProvider.getFailFastValidator();
+			assertSame(failFast, ValidatorProvider.getFailFastValidator());
+			assertEquals(2, ValidatorProvider.getValidator().validate(new ConstrainedEntity()).size());
+			assertEquals(1, failFast.validate(new ConstrainedEntity()).size());
+
+			ValidatorProvider.setValidatorFactory(factory);
+			assertNotSame(failFast, ValidatorProvider.getFailFastValidator());
+			Set<ConstraintViolation<ConstrainedEntity>> violations = ValidatorProvider.getFailFastValidator()
+					.validate(new ConstrainedEntity());
+			assertEquals(1, violations.size());
+			assertEquals("custom", violations.iterator().next().getMessage());
+		} finally {
+			ValidatorProvider.setValidatorFactory(original);
+		}
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void testSetValidatorFactoryNull() {
+		ValidatorProvider.setValidatorFactory(null);
+	}
+}
@@ -0,0 +1,16 @@
+package org.vaadin.easybinder.testentity;
+
+class Terminal {
+	String name;
+
+	public Terminal() {
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+}